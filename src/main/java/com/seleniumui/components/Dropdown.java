@@ -4,23 +4,76 @@ import com.seleniumui.core.BaseComponent;
 import com.seleniumui.core.actions.SmartActions;
 import com.seleniumui.core.waits.SmartWait;
 import com.seleniumui.exceptions.DropdownSelectionException;
+import com.seleniumui.executors.ScriptLibrary;
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class Dropdown extends BaseComponent {
 
+    private static final Logger LOG = Log.getLogger(Dropdown.class);
+
+    // How long an open menu gets to render its options before the XPath strategies take over
+    static final long OPTION_INDEX_WAIT_MS = 1000;
+
+    // Position of the "text contains" XPath in the option strategies
+    private static final int CONTAINS_TEXT_STRATEGY = 6;
+    // Position of the aria-selected XPath in the selected text strategies
+    private static final int ARIA_SELECTED_STRATEGY = 0;
+
+    private boolean optionIndexEnabled = true;
+    private DropdownStrategyCache strategyCache = DropdownStrategyCache.shared();
+
     public Dropdown(WebDriver driver, By locator, SmartWait smartWait, SmartActions smartActions) {
         super(driver, locator, smartWait, smartActions);
     }
 
+    // One option as the in-page index saw it; inPopup is true for options outside the dropdown element (portals)
+    public record Option(WebElement element, String text, String value, Map<String, String> data,
+                         boolean visible, boolean inPopup) {
+    }
+
+    // On by default: custom options are looked up in one script instead of walking XPath strategies
+    public Dropdown withOptionIndex(boolean enabled) {
+        this.optionIndexEnabled = enabled;
+        return this;
+    }
+
+    // Defaults to DropdownStrategyCache.shared()
+    public Dropdown withStrategyCache(DropdownStrategyCache strategyCache) {
+        this.strategyCache = Objects.requireNonNull(strategyCache, "Strategy cache cannot be null");
+        return this;
+    }
+
+    // Every option candidate of a custom dropdown, including popups attached elsewhere; open it first
+    public List<Option> getOptions() {
+        WebElement dropdown = smartWait.forVisible(locator);
+        if (isStandardSelect(dropdown)) {
+            return new Select(dropdown).getOptions().stream()
+                    .map(option -> new Option(option, option.getText().trim(), option.getDomAttribute("value"),
+                            Map.of(), option.isDisplayed(), false))
+                    .toList();
+        }
+        return OptionIndex.build(driver, dropdown).options();
+    }
+
     public void selectByText(String text) {
         Objects.requireNonNull(text, "Selection text cannot be null");
 
@@ -318,6 +371,11 @@ public class Dropdown extends BaseComponent {
     private WebElement findCustomOption(String text) {
         WebElement dropdown = smartWait.forVisible(locator);
 
+        WebElement indexed = findIndexedOption(dropdown, index -> index.findByText(text));
+        if (indexed != null) {
+            return indexed;
+        }
+
         By[] optionLocators = {
                 By.xpath(".//*[normalize-space()='" + text + "' and not(ancestor::*[contains(@style,'display: none')])]"),
                 By.xpath(".//option[normalize-space()='" + text + "']"),
@@ -330,27 +388,13 @@ public class Dropdown extends BaseComponent {
                 By.xpath(".//*[@data-text='" + text + "']")
         };
 
-        for (By locator : optionLocators) {
-            try {
-                WebElement option = dropdown.findElement(locator);
-                if (option.isDisplayed()) {
-                    return option;
-                }
-            } catch (Exception e) {
-                // Continue to next strategy
-            }
-        }
-
-        for (By locator : optionLocators) {
-            try {
-                String xpath = locator.toString().replace("By.xpath: .", "");
-                WebElement option = driver.findElement(By.xpath(xpath));
-                if (option.isDisplayed()) {
-                    return option;
-                }
-            } catch (Exception e) {
-                // Continue to next strategy
-            }
+        // Only exact matches inside the dropdown are promoted; a learned "contains" or document-wide strategy
+        // would pick a neighbour ("Dark Green" for "Green", another dropdown's option) before the right one
+        WebElement option = firstMatch(dropdown, DropdownStrategyCache.Kind.OPTION, optionLocators.length * 2,
+                strategy -> strategy < optionLocators.length && strategy != CONTAINS_TEXT_STRATEGY,
+                strategy -> findDisplayedOption(dropdown, optionLocators, strategy));
+        if (option != null) {
+            return option;
         }
 
         throw new DropdownSelectionException("Cannot find option with text: " + text);
@@ -359,6 +403,11 @@ public class Dropdown extends BaseComponent {
     private WebElement findOptionByValue(String value) {
         WebElement dropdown = smartWait.forVisible(locator);
 
+        WebElement indexed = findIndexedOption(dropdown, index -> index.findByValue(value));
+        if (indexed != null) {
+            return indexed;
+        }
+
         By[] valueLocators = {
                 By.xpath(".//*[@value='" + value + "']"),
                 By.xpath(".//*[@data-value='" + value + "']"),
@@ -367,30 +416,77 @@ public class Dropdown extends BaseComponent {
                 By.xpath(".//div[@data-value='" + value + "']")
         };
 
-        for (By locator : valueLocators) {
-            try {
-                WebElement option = dropdown.findElement(locator);
-                if (option.isDisplayed()) {
-                    return option;
-                }
-            } catch (Exception e) {
-                // Continue to next strategy
+        WebElement option = firstMatch(dropdown, DropdownStrategyCache.Kind.VALUE, valueLocators.length * 2,
+                strategy -> strategy < valueLocators.length,
+                strategy -> findDisplayedOption(dropdown, valueLocators, strategy));
+        if (option != null) {
+            return option;
+        }
+
+        throw new DropdownSelectionException("Cannot find option with value: " + value);
+    }
+
+    // Strategies 0..n-1 search inside the dropdown, n..2n-1 the same XPath against the whole document
+    private WebElement findDisplayedOption(WebElement dropdown, By[] locators, int strategy) {
+        try {
+            WebElement option;
+            if (strategy < locators.length) {
+                option = dropdown.findElement(locators[strategy]);
+            } else {
+                String xpath = locators[strategy - locators.length].toString().replace("By.xpath: .", "");
+                option = driver.findElement(By.xpath(xpath));
             }
+            return option.isDisplayed() ? option : null;
+        } catch (Exception e) {
+            return null;
         }
+    }
 
-        for (By locator : valueLocators) {
-            try {
-                String xpath = locator.toString().replace("By.xpath: .", "");
-                WebElement option = driver.findElement(By.xpath(xpath));
-                if (option.isDisplayed()) {
-                    return option;
-                }
-            } catch (Exception e) {
-                // Continue to next strategy
+    // Walks strategies starting with the one that last matched for dropdowns that look like this one
+    private <T> T firstMatch(WebElement dropdown, DropdownStrategyCache.Kind kind, int strategyCount,
+                             IntPredicate learnable, IntFunction<T> strategy) {
+        String signature = signature(dropdown);
+        int[] order = strategyCache.order(signature, kind, strategyCount);
+        for (int attempt = 0; attempt < order.length; attempt++) {
+            T result = strategy.apply(order[attempt]);
+            if (result != null) {
+                strategyCache.recordMatch(signature, kind, order[attempt], attempt, learnable.test(order[attempt]));
+                return result;
             }
         }
+        strategyCache.recordNoMatch();
+        return null;
+    }
 
-        throw new DropdownSelectionException("Cannot find option with value: " + value);
+    private String signature(WebElement dropdown) {
+        try {
+            return String.valueOf(ScriptLibrary.call(driver, "signature", dropdown));
+        } catch (RuntimeException e) {
+            return "unknown";
+        }
+    }
+
+    // Waits only while the menu has no visible options yet; a rendered menu without a match is an answer,
+    // and null sends the caller straight on to the XPath strategies
+    private WebElement findIndexedOption(WebElement dropdown, Function<OptionIndex, Optional<Option>> lookup) {
+        if (!optionIndexEnabled) {
+            return null;
+        }
+        try {
+            OptionIndex index = OptionIndex.build(driver, dropdown);
+            if (!index.hasVisibleOptions()) {
+                index = smartWait.until(ignored -> {
+                    OptionIndex rendered = OptionIndex.build(driver, dropdown);
+                    return rendered.hasVisibleOptions() ? rendered : null;
+                }, OPTION_INDEX_WAIT_MS, smartWait.getDefaultPollIntervalMs());
+            }
+            return lookup.apply(index).map(Option::element).orElse(null);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (RuntimeException e) {
+            LOG.debug("Option index unavailable for {}: {}", locator, e.getMessage());
+            return null;
+        }
     }
 
     private String getCustomSelectedText(WebElement dropdown) {
@@ -407,23 +503,27 @@ public class Dropdown extends BaseComponent {
                 ".//*[contains(@class, 'current')]"
         };
 
-        for (String selector : selectedAttributes) {
-            try {
-                List<WebElement> elements = dropdown.findElements(By.xpath(selector));
-                for (WebElement element : elements) {
-                    if (element.isDisplayed()) {
-                        String text = element.getText().trim();
-                        if (isValidSelectedText(text)) {
-                            return text;
+        // Only the exact aria-selected strategy is promoted; a learned class match like 'current' would answer
+        // with a different element's text before the exact one is even tried
+        String selectedText = firstMatch(dropdown, DropdownStrategyCache.Kind.SELECTED_TEXT, selectedAttributes.length,
+                strategy -> strategy == ARIA_SELECTED_STRATEGY, strategy -> {
+                    try {
+                        List<WebElement> elements = dropdown.findElements(By.xpath(selectedAttributes[strategy]));
+                        for (WebElement element : elements) {
+                            if (element.isDisplayed()) {
+                                String text = element.getText().trim();
+                                if (isValidSelectedText(text)) {
+                                    return text;
+                                }
+                            }
                         }
+                    } catch (Exception e) {
+                        // Continue
                     }
-                }
-            } catch (Exception e) {
-                // Continue
-            }
-        }
+                    return null;
+                });
 
-        return dropdown.getText().trim();
+        return selectedText != null ? selectedText : dropdown.getText().trim();
     }
 
     private List<String> getCustomSelectedTexts(WebElement dropdown) {
@@ -512,7 +612,9 @@ public class Dropdown extends BaseComponent {
                 By.xpath(".//input[@type='checkbox' and @checked]/following-sibling::*")
         };
 
-        List<WebElement> selectedOptions = new ArrayList<>();
+        // Every strategy adds its matches: a multi-select may mark some items aria-selected and others with a
+        // checked box. The same element found by two strategies is listed once, so deselecting never toggles it back
+        Set<WebElement> selectedOptions = new LinkedHashSet<>();
         for (By locator : selectedOptionLocators) {
             try {
                 List<WebElement> elements = dropdown.findElements(locator);
@@ -526,7 +628,7 @@ public class Dropdown extends BaseComponent {
             }
         }
 
-        return selectedOptions;
+        return new ArrayList<>(selectedOptions);
     }
 
     private String getCustomSelectedValue(WebElement dropdown) {
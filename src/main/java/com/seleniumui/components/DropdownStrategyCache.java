@@ -0,0 +1,193 @@
+package com.seleniumui.components;
+
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Remembers which locator strategy matched for a dropdown signature (tag, role, class pattern) so the next
+// walk tries it first. Shared by every Dropdown unless one is given its own; set the system property
+// seleniumui.dropdown.strategyCache to a file to keep what was learned between runs.
+public final class DropdownStrategyCache {
+
+    private static final Logger LOG = Log.getLogger(DropdownStrategyCache.class);
+
+    public enum Kind {
+        OPTION,
+        VALUE,
+        SELECTED_TEXT
+    }
+
+    private static final DropdownStrategyCache SHARED = fromSystemProperty();
+
+    private final Map<String, Integer> learned = new ConcurrentHashMap<>();
+    private final Path file;
+    private final Object fileLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder noMatches = new LongAdder();
+    private final LongAdder skippedAttempts = new LongAdder();
+
+    public DropdownStrategyCache() {
+        this.file = null;
+    }
+
+    // Loads the file when it exists and writes it back whenever a learned strategy changes
+    public DropdownStrategyCache(Path file) {
+        this.file = Objects.requireNonNull(file, "File cannot be null");
+        load();
+    }
+
+    public static DropdownStrategyCache shared() {
+        return SHARED;
+    }
+
+    // Strategy indexes to try: the learned one first, the rest in their original order
+    int[] order(String signature, Kind kind, int strategyCount) {
+        int[] order = new int[strategyCount];
+        Integer first = learned.get(key(signature, kind));
+        int position = 0;
+        if (first != null && first < strategyCount) {
+            order[position++] = first;
+        }
+        for (int index = 0; index < strategyCount; index++) {
+            if (first == null || index != first) {
+                order[position++] = index;
+            }
+        }
+        return order;
+    }
+
+    // attempt is the position in order() at which the strategy matched; strategies that are not learnable
+    // count towards the statistics but are never tried first
+    void recordMatch(String signature, Kind kind, int strategy, int attempt, boolean learnable) {
+        if (attempt == 0 && learned.containsKey(key(signature, kind))) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        skippedAttempts.add(Math.max(0, strategy - attempt));
+        if (!learnable) {
+            return;
+        }
+
+        Integer previous = learned.put(key(signature, kind), strategy);
+        if (!Integer.valueOf(strategy).equals(previous)) {
+            LOG.debug("Dropdown {} {} now starts with strategy {}", signature, kind, strategy);
+            save();
+        }
+    }
+
+    void recordNoMatch() {
+        misses.increment();
+        noMatches.increment();
+    }
+
+    // Lookups answered by the strategy tried first
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long total = getHits() + getMisses();
+        return total == 0 ? 0 : (double) getHits() / total;
+    }
+
+    // Walks where no strategy matched at all
+    public long getNoMatches() {
+        return noMatches.sum();
+    }
+
+    // Strategies the fixed order would have tried before the one that matched
+    public long getSkippedAttempts() {
+        return skippedAttempts.sum();
+    }
+
+    public int size() {
+        return learned.size();
+    }
+
+    public void clear() {
+        learned.clear();
+        save();
+    }
+
+    @Override
+    public String toString() {
+        return "DropdownStrategyCache{entries=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() +
+                ", skippedAttempts=" + getSkippedAttempts() + "}";
+    }
+
+    private static String key(String signature, Kind kind) {
+        return kind + " " + signature;
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            LOG.warn("Could not read dropdown strategy cache {}: {}", file, e.getMessage());
+            return;
+        }
+        properties.forEach((key, value) -> {
+            try {
+                learned.put((String) key, Integer.parseInt((String) value));
+            } catch (NumberFormatException e) {
+                // Hand-edited or from an older layout; relearned on the next walk
+            }
+        });
+        LOG.debug("Loaded {} dropdown strategies from {}", learned.size(), file);
+    }
+
+    private void save() {
+        if (file == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        learned.forEach((key, value) -> properties.setProperty(key, String.valueOf(value)));
+        synchronized (fileLock) {
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                // Written aside and moved over, so a concurrent run never reads a half-written file
+                Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+                try {
+                    try (OutputStream out = Files.newOutputStream(temp)) {
+                        properties.store(out, "Learned dropdown locator strategies");
+                    }
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException e) {
+                LOG.warn("Could not write dropdown strategy cache {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static DropdownStrategyCache fromSystemProperty() {
+        String path = System.getProperty("seleniumui.dropdown.strategyCache");
+        return path == null || path.isBlank() ? new DropdownStrategyCache() : new DropdownStrategyCache(Paths.get(path));
+    }
+}
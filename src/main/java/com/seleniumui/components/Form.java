@@ -0,0 +1,119 @@
+package com.seleniumui.components;
+
+import com.seleniumui.core.BaseComponent;
+import com.seleniumui.core.actions.ActionBatch;
+import com.seleniumui.core.actions.SmartActions;
+import com.seleniumui.core.waits.SmartWait;
+import com.seleniumui.exceptions.ElementInteractionException;
+import com.seleniumui.executors.JsExecutor;
+import com.seleniumui.executors.JsLocator;
+import com.seleniumui.executors.ScriptLibrary;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Fills many fields at once: every scriptable field is set in one __sui.fill call (native value setter plus
+// input/change/blur events); fields flagged for keystrokes are typed afterwards in one actions chain.
+// Every field is looked up inside the form, so two forms with the same field names never mix.
+public class Form extends BaseComponent {
+
+    private final Set<By> keystrokeFields = new HashSet<>();
+
+    public Form(WebDriver driver, By locator, SmartWait smartWait, SmartActions smartActions) {
+        super(driver, locator, smartWait, smartActions);
+    }
+
+    // Fields whose widgets only react to real key events (masks, autocompletes)
+    public Form withKeystrokes(By... fields) {
+        keystrokeFields.addAll(Arrays.asList(fields));
+        return this;
+    }
+
+    public FillResult fill(Map<By, String> values) {
+        long startTime = System.currentTimeMillis();
+        Map<By, String> failures = new LinkedHashMap<>();
+        WebElement root = find();
+
+        List<By> scripted = new ArrayList<>();
+        List<By> typed = new ArrayList<>();
+        for (By field : values.keySet()) {
+            if (keystrokeFields.contains(field) || !JsLocator.isSupported(field)) {
+                typed.add(field);
+            } else {
+                scripted.add(field);
+            }
+        }
+
+        List<By> fileInputs = new ArrayList<>();
+        if (!scripted.isEmpty()) {
+            List<List<String>> payload = new ArrayList<>();
+            for (By field : scripted) {
+                payload.add(Arrays.asList(JsLocator.using(field), JsLocator.value(field), values.get(field)));
+            }
+            Object response = ScriptLibrary.call(driver, "fill", root, payload);
+            List<?> outcomes = response instanceof List<?> list ? list : Collections.emptyList();
+
+            for (int i = 0; i < scripted.size(); i++) {
+                Object outcome = i < outcomes.size() ? outcomes.get(i) : "no result from fill script";
+                if (JsExecutor.NEEDS_KEYSTROKES.equals(outcome)) {
+                    fileInputs.add(scripted.get(i));
+                } else if (outcome != null) {
+                    failures.put(scripted.get(i), String.valueOf(outcome));
+                }
+            }
+        }
+
+        if (!typed.isEmpty()) {
+            ActionBatch batch = smartActions.batch(root);
+            List<By> stepFields = new ArrayList<>();
+            for (By field : typed) {
+                batch.clearAndType(field, values.get(field));
+                while (stepFields.size() < batch.size()) {
+                    stepFields.add(field);
+                }
+            }
+            for (ActionBatch.StepResult step : batch.execute().steps()) {
+                By field = stepFields.get(step.index());
+                if (step.status() != ActionBatch.Status.SUCCEEDED && !failures.containsKey(field)) {
+                    failures.put(field, step.error() != null ? step.error().getMessage() : "skipped after an earlier failure");
+                }
+            }
+        }
+
+        // File inputs take the path through sendKeys on the element itself
+        for (By field : fileInputs) {
+            try {
+                smartActions.type(root, field, values.get(field));
+            } catch (RuntimeException e) {
+                failures.put(field, e.getMessage());
+            }
+        }
+
+        return new FillResult(Collections.unmodifiableMap(failures), scripted.size() - fileInputs.size(),
+                typed.size() + fileInputs.size(), System.currentTimeMillis() - startTime);
+    }
+
+    public record FillResult(Map<By, String> failedFields, int scriptedFields, int keystrokeFields, long elapsedMs) {
+
+        public boolean isSuccess() {
+            return failedFields.isEmpty();
+        }
+
+        public FillResult throwIfFailed() {
+            if (!failedFields.isEmpty()) {
+                throw new ElementInteractionException("Could not fill " + failedFields.size() + " field(s): " +
+                        failedFields);
+            }
+            return this;
+        }
+    }
+}
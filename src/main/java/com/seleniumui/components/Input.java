@@ -3,23 +3,133 @@ package com.seleniumui.components;
 import com.seleniumui.core.BaseComponent;
 import com.seleniumui.core.actions.SmartActions;
 import com.seleniumui.core.waits.SmartWait;
+import com.seleniumui.exceptions.ElementInteractionException;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
 public class Input extends BaseComponent {
 
+    public static final int DEFAULT_AUTO_THRESHOLD = 256;
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    public enum TypingStrategy {
+        // sendKeys: one key event per character
+        NATIVE,
+        // Value assignment plus input/change/blur events
+        JS_VALUE,
+        // sendKeys in bounded chunks
+        CHUNKED,
+        // NATIVE up to the threshold, JS_VALUE above it
+        AUTO
+    }
+
+    public record TypingReport(TypingStrategy strategy, int length, long elapsedMs) {
+    }
+
+    // Real keystrokes unless a field opts in with withTypingStrategy, or every field with the system property
+    // seleniumui.input.typingStrategy (e.g. AUTO); masks and keydown validators only see NATIVE and CHUNKED
+    public static final TypingStrategy DEFAULT_TYPING_STRATEGY =
+            parse(System.getProperty("seleniumui.input.typingStrategy"), TypingStrategy.NATIVE);
+
+    private TypingStrategy typingStrategy = DEFAULT_TYPING_STRATEGY;
+    private int autoThreshold = DEFAULT_AUTO_THRESHOLD;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private TypingReport lastTypingReport;
+
     public Input(WebDriver driver, By locator, SmartWait smartWait, SmartActions smartActions) {
         super(driver, locator, smartWait, smartActions);
     }
 
+    public Input withTypingStrategy(TypingStrategy typingStrategy) {
+        this.typingStrategy = typingStrategy;
+        return this;
+    }
+
+    public Input withAutoThreshold(int autoThreshold) {
+        if (autoThreshold < 0) {
+            throw new IllegalArgumentException("Auto threshold cannot be negative");
+        }
+        this.autoThreshold = autoThreshold;
+        return this;
+    }
+
+    public Input withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
     public void clear() {
         smartWait.forVisible(locator);
         smartActions.clear(locator);
     }
 
     public void type(String text) {
+        typeWith(text, typingStrategy);
+    }
+
+    public TypingReport typeWith(String text, TypingStrategy strategy) {
+        return enter(text, strategy, true);
+    }
+
+    private TypingReport enter(String text, TypingStrategy strategy, boolean append) {
+        long startTime = System.currentTimeMillis();
         smartWait.forVisible(locator);
-        smartActions.type(locator, text);
+
+        TypingStrategy used = resolve(text, strategy);
+        if (used == TypingStrategy.JS_VALUE) {
+            try {
+                smartActions.setValue(locator, text, append);
+            } catch (ElementInteractionException e) {
+                if (strategy != TypingStrategy.AUTO) {
+                    throw e;
+                }
+                // Widget refused the assignment (file input, masked field); the script already put the
+                // original value back, so real keys start from where a plain type() would
+                if (!append) {
+                    smartActions.clear(locator);
+                }
+                used = TypingStrategy.CHUNKED;
+            }
+        } else if (!append) {
+            smartActions.clear(locator);
+        }
+
+        if (used == TypingStrategy.CHUNKED) {
+            smartActions.typeChunked(locator, text, chunkSize);
+        } else if (used == TypingStrategy.NATIVE) {
+            smartActions.type(locator, text);
+        }
+
+        lastTypingReport = new TypingReport(used, text.length(), System.currentTimeMillis() - startTime);
+        return lastTypingReport;
+    }
+
+    private TypingStrategy resolve(String text, TypingStrategy strategy) {
+        if (strategy != TypingStrategy.AUTO) {
+            return strategy;
+        }
+        if (text.length() <= autoThreshold) {
+            return TypingStrategy.NATIVE;
+        }
+        // Keys.* code points only mean something to sendKeys
+        return containsKeyCodes(text) ? TypingStrategy.CHUNKED : TypingStrategy.JS_VALUE;
+    }
+
+    private static boolean containsKeyCodes(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\uE000' && c <= '\uE05D') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public TypingReport getLastTypingReport() {
+        return lastTypingReport;
     }
 
     public void pressEnter() {
@@ -32,9 +142,9 @@ public class Input extends BaseComponent {
         smartActions.pressTab(locator);
     }
 
+    // With JS_VALUE the clear and the assignment are one call
     public void clearAndType(String text) {
-        clear();
-        type(text);
+        enter(text, typingStrategy, false);
     }
 
     public void typeAndPressEnter(String text) {
@@ -54,4 +164,15 @@ public class Input extends BaseComponent {
         smartWait.forVisible(locator);
         smartActions.pressKey(locator, combinedKeys);
     }
+
+    private static TypingStrategy parse(String value, TypingStrategy fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return TypingStrategy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
 }
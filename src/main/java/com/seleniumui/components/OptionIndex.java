@@ -0,0 +1,138 @@
+package com.seleniumui.components;
+
+import com.seleniumui.executors.ScriptLibrary;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Every option candidate of a custom dropdown, read by one __sui.dropdownOptions call and looked up by map.
+// Only visible candidates are indexed. Every lookup runs against the dropdown and its aria-linked containers
+// before any portal, so an exact match in an unrelated open menu never beats a data-value match in the dropdown.
+// Within a tier the best candidate per key wins: real options before data-* carriers before generic list items.
+final class OptionIndex {
+
+    // Scope reported by __sui.dropdownOptions: 0 the dropdown, 1 aria-linked containers, 2 portals
+    private static final int PORTAL_SCOPE = 2;
+
+    private final List<Dropdown.Option> options;
+    private final Tier scoped;
+    private final Tier portal;
+
+    private OptionIndex(List<Dropdown.Option> options, Tier scoped, Tier portal) {
+        this.options = options;
+        this.scoped = scoped;
+        this.portal = portal;
+    }
+
+    static OptionIndex build(WebDriver driver, WebElement dropdown) {
+        Object response = ScriptLibrary.call(driver, "dropdownOptions", dropdown);
+        List<?> raw = response instanceof List<?> list ? list : List.of();
+
+        List<Ranked> ranked = new ArrayList<>(raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            Map<?, ?> entry = (Map<?, ?>) raw.get(i);
+            Map<String, String> data = new LinkedHashMap<>();
+            if (entry.get("data") instanceof Map<?, ?> dataset) {
+                dataset.forEach((key, value) -> data.put(String.valueOf(key), String.valueOf(value)));
+            }
+            int scope = ((Number) entry.get("scope")).intValue();
+            Dropdown.Option option = new Dropdown.Option((WebElement) entry.get("element"),
+                    String.valueOf(entry.get("text")), (String) entry.get("value"), Collections.unmodifiableMap(data),
+                    Boolean.TRUE.equals(entry.get("visible")), scope > 0);
+            ranked.add(new Ranked(option, scope, ((Number) entry.get("rank")).intValue(), i));
+        }
+
+        List<Dropdown.Option> options = ranked.stream().map(Ranked::option).toList();
+        List<Ranked> visible = ranked.stream()
+                .filter(entry -> entry.option().visible())
+                .sorted(Comparator.comparingInt(Ranked::scope).thenComparingInt(Ranked::rank)
+                        .thenComparingInt(Ranked::position))
+                .toList();
+        return new OptionIndex(options,
+                new Tier(visible.stream().filter(entry -> entry.scope() < PORTAL_SCOPE).map(Ranked::option).toList()),
+                new Tier(visible.stream().filter(entry -> entry.scope() == PORTAL_SCOPE).map(Ranked::option).toList()));
+    }
+
+    List<Dropdown.Option> options() {
+        return options;
+    }
+
+    // False while the menu is still rendering; once options show, a miss is an answer
+    boolean hasVisibleOptions() {
+        return !scoped.visible.isEmpty() || !portal.visible.isEmpty();
+    }
+
+    Optional<Dropdown.Option> findByText(String text) {
+        return scoped.findByText(text).or(() -> portal.findByText(text));
+    }
+
+    Optional<Dropdown.Option> findByValue(String value) {
+        return scoped.findByValue(value).or(() -> portal.findByValue(value));
+    }
+
+    // Matches the whitespace handling of the in-page text (and of XPath normalize-space)
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ");
+    }
+
+    private static final class Tier {
+
+        private final List<Dropdown.Option> visible;
+        private final Map<String, Dropdown.Option> byText = new HashMap<>();
+        private final Map<String, Dropdown.Option> byValue = new HashMap<>();
+        private final Map<String, Dropdown.Option> byDataValue = new HashMap<>();
+        private final Map<String, Dropdown.Option> byDataText = new HashMap<>();
+
+        private Tier(List<Dropdown.Option> visible) {
+            this.visible = visible;
+            for (Dropdown.Option option : visible) {
+                byText.putIfAbsent(option.text(), option);
+                if (option.value() != null) {
+                    byValue.putIfAbsent(option.value(), option);
+                }
+                if (option.data().get("value") != null) {
+                    byDataValue.putIfAbsent(option.data().get("value"), option);
+                }
+                if (option.data().get("text") != null) {
+                    byDataText.putIfAbsent(option.data().get("text"), option);
+                }
+            }
+        }
+
+        // Same order as the XPath strategies: exact text, text containing it, data-value, data-text
+        private Optional<Dropdown.Option> findByText(String text) {
+            String wanted = normalize(text);
+            Dropdown.Option option = byText.get(wanted);
+            if (option == null && !wanted.isEmpty()) {
+                // Shortest match, so a wrapper whose text holds every option never beats the option itself
+                option = visible.stream()
+                        .filter(candidate -> candidate.text().contains(wanted))
+                        .min(Comparator.comparingInt(candidate -> candidate.text().length()))
+                        .orElse(null);
+            }
+            if (option == null) {
+                option = byDataValue.get(text);
+            }
+            if (option == null) {
+                option = byDataText.get(text);
+            }
+            return Optional.ofNullable(option);
+        }
+
+        private Optional<Dropdown.Option> findByValue(String value) {
+            Dropdown.Option option = byValue.get(value);
+            return Optional.ofNullable(option != null ? option : byDataValue.get(value));
+        }
+    }
+
+    private record Ranked(Dropdown.Option option, int scope, int rank, int position) {
+    }
+}
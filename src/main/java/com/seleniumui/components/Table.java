@@ -0,0 +1,339 @@
+package com.seleniumui.components;
+
+import com.seleniumui.core.BaseComponent;
+import com.seleniumui.core.actions.SmartActions;
+import com.seleniumui.core.waits.SmartWait;
+import com.seleniumui.executors.ScriptLibrary;
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Streams rows out of a table or data grid a chunk at a time (one __sui.tableChunk call per chunk), so only
+// one chunk is ever held in memory. Selectors default to a plain <table>; grids built from divs set their own.
+// Virtualised grids are read by scrolling their container between chunks.
+public class Table extends BaseComponent {
+
+    private static final Logger LOG = Log.getLogger(Table.class);
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    static final long VIRTUAL_SETTLE_MS = 100;
+
+    private String rowSelector = "tbody tr";
+    private String cellSelector = "td, th";
+    private String headerSelector = "thead th";
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean skipEmptyRows = true;
+    private boolean virtualScroll;
+    private String scrollContainerSelector;
+    private List<String> projectedNames;
+    private int[] projectedIndexes;
+    private volatile ExtractionStats lastStats = new ExtractionStats(0, 0, 0);
+
+    public Table(WebDriver driver, By locator, SmartWait smartWait, SmartActions smartActions) {
+        super(driver, locator, smartWait, smartActions);
+    }
+
+    // CSS selectors relative to the table root; lists such as "td, .rt-td" work too
+    public Table withSelectors(String rowSelector, String cellSelector, String headerSelector) {
+        this.rowSelector = Objects.requireNonNull(rowSelector, "Row selector cannot be null");
+        this.cellSelector = Objects.requireNonNull(cellSelector, "Cell selector cannot be null");
+        this.headerSelector = Objects.requireNonNull(headerSelector, "Header selector cannot be null");
+        return this;
+    }
+
+    public Table withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    // Padding rows (every cell blank) are skipped by default
+    public Table withEmptyRows(boolean keep) {
+        this.skipEmptyRows = !keep;
+        return this;
+    }
+
+    // Scrolls the first scrollable container in or around the table between chunks
+    public Table withVirtualScroll() {
+        return withVirtualScroll(null);
+    }
+
+    public Table withVirtualScroll(String scrollContainerSelector) {
+        this.virtualScroll = true;
+        this.scrollContainerSelector = scrollContainerSelector;
+        return this;
+    }
+
+    // Only these columns are read and returned, matched against the header text (case-insensitive)
+    public Table columns(String... headerNames) {
+        this.projectedNames = List.of(headerNames);
+        this.projectedIndexes = null;
+        return this;
+    }
+
+    public Table columns(int... indexes) {
+        this.projectedIndexes = indexes.clone();
+        this.projectedNames = null;
+        return this;
+    }
+
+    public List<String> headers() {
+        return headers(find());
+    }
+
+    private List<String> headers(WebElement root) {
+        Object response = ScriptLibrary.call(driver, "tableHeaders", root, headerSelector);
+        return response instanceof List<?> list ? list.stream().map(String::valueOf).toList() : List.of();
+    }
+
+    public Stream<Row> rows() {
+        RowIterator iterator = new RowIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    // Reads the whole table; prefer rows() when the table is large
+    public List<Row> readAll() {
+        try (Stream<Row> rows = rows()) {
+            return rows.toList();
+        }
+    }
+
+    public long rowCount() {
+        try (Stream<Row> rows = rows()) {
+            return rows.count();
+        }
+    }
+
+    // Live while a stream is being consumed, final once it is exhausted or closed
+    public ExtractionStats getLastStats() {
+        return lastStats;
+    }
+
+    private List<String> columnNames(List<String> headers, int[] indexes) {
+        if (indexes == null) {
+            return headers;
+        }
+        List<String> names = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            names.add(index < headers.size() ? headers.get(index) : String.valueOf(index));
+        }
+        return names;
+    }
+
+    private int[] resolveColumns(List<String> headers) {
+        if (projectedIndexes != null) {
+            return projectedIndexes;
+        }
+        if (projectedNames == null) {
+            return null;
+        }
+        int[] indexes = new int[projectedNames.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            String wanted = projectedNames.get(i).trim();
+            indexes[i] = -1;
+            for (int j = 0; j < headers.size(); j++) {
+                if (headers.get(j).equalsIgnoreCase(wanted)) {
+                    indexes[i] = j;
+                    break;
+                }
+            }
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("No column '" + wanted + "' in " + headers);
+            }
+        }
+        return indexes;
+    }
+
+    private final class RowIterator implements Iterator<Row> {
+        private final Deque<Row> buffer = new ArrayDeque<>();
+        private final String cursorId = UUID.randomUUID().toString();
+        private WebElement root;
+        private Map<String, Object> options;
+        private Map<String, Integer> columnIndex;
+        private List<String> columnNames;
+        private long startNanos;
+        private long rows;
+        private int chunks;
+        private int offset;
+        private boolean done;
+        private boolean closed;
+
+        @Override
+        public boolean hasNext() {
+            while (buffer.isEmpty() && !done) {
+                fetch();
+            }
+            if (buffer.isEmpty()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            rows++;
+            return buffer.poll();
+        }
+
+        private void fetch() {
+            if (root == null) {
+                start();
+            }
+            Map<String, Object> cursor = Map.of("id", cursorId, "offset", offset);
+            Object response = virtualScroll
+                    ? ScriptLibrary.callAsync(driver, "tableChunk", root, options, cursor)
+                    : ScriptLibrary.call(driver, "tableChunk", root, options, cursor);
+            if (!(response instanceof Map<?, ?> chunk)) {
+                throw new IllegalStateException("Unexpected table chunk: " + response);
+            }
+            if (chunk.containsKey("stale")) {
+                done = true;
+                throw new StaleElementReferenceException("Table " + locator + " was detached while being read");
+            }
+
+            chunks++;
+            for (Object raw : (List<?>) chunk.get("rows")) {
+                List<?> entry = (List<?>) raw;
+                List<String> cells = new ArrayList<>(((List<?>) entry.get(1)).size());
+                for (Object cell : (List<?>) entry.get(1)) {
+                    cells.add(cell == null ? null : String.valueOf(cell));
+                }
+                buffer.add(new Row(((Number) entry.get(0)).intValue(), Collections.unmodifiableList(cells),
+                        columnNames, columnIndex));
+            }
+            if (chunk.get("offset") instanceof Number next) {
+                offset = next.intValue();
+            }
+            done = Boolean.TRUE.equals(chunk.get("done"));
+            lastStats = stats();
+        }
+
+        private void start() {
+            startNanos = System.nanoTime();
+            root = find();
+            List<String> headers = headers(root);
+            int[] columns = resolveColumns(headers);
+            columnNames = columnNames(headers, columns);
+            columnIndex = new HashMap<>();
+            for (int i = 0; i < columnNames.size(); i++) {
+                columnIndex.putIfAbsent(columnNames.get(i).toLowerCase(), i);
+            }
+
+            options = new LinkedHashMap<>();
+            options.put("rowSelector", rowSelector);
+            options.put("cellSelector", cellSelector);
+            options.put("columns", columns == null ? null : Arrays.stream(columns).boxed().toList());
+            options.put("limit", chunkSize);
+            options.put("skipEmpty", skipEmptyRows);
+            options.put("virtual", virtualScroll);
+            options.put("scrollSelector", scrollContainerSelector);
+            options.put("settleMs", VIRTUAL_SETTLE_MS);
+        }
+
+        private ExtractionStats stats() {
+            return new ExtractionStats(rows + buffer.size(), chunks, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+
+        private void close() {
+            if (closed || root == null) {
+                return;
+            }
+            closed = true;
+            if (virtualScroll && !done) {
+                try {
+                    ScriptLibrary.call(driver, "releaseTable", cursorId);
+                } catch (RuntimeException e) {
+                    LOG.debug("Could not release table cursor: {}", e.getMessage());
+                }
+            }
+            lastStats = new ExtractionStats(rows, chunks, (System.nanoTime() - startNanos) / 1_000_000);
+            LOG.debug("Read {} rows of {} in {} chunks ({} rows/s)", rows, locator, chunks,
+                    Math.round(lastStats.rowsPerSecond()));
+        }
+    }
+
+    public static final class Row {
+        private final int index;
+        private final List<String> cells;
+        private final List<String> columns;
+        private final Map<String, Integer> columnIndex;
+
+        private Row(int index, List<String> cells, List<String> columns, Map<String, Integer> columnIndex) {
+            this.index = index;
+            this.cells = cells;
+            this.columns = columns;
+            this.columnIndex = columnIndex;
+        }
+
+        // Position among the rows the row selector matches (static tables) or in reading order (virtual grids)
+        public int index() {
+            return index;
+        }
+
+        public List<String> cells() {
+            return cells;
+        }
+
+        public String get(int column) {
+            return cells.get(column);
+        }
+
+        // By header text, case-insensitive; only projected columns are available
+        public String get(String column) {
+            Integer position = columnIndex.get(column.trim().toLowerCase());
+            if (position == null) {
+                throw new IllegalArgumentException("No column '" + column + "' in " + columns);
+            }
+            return position < cells.size() ? cells.get(position) : null;
+        }
+
+        public Map<String, String> asMap() {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < Math.min(columns.size(), cells.size()); i++) {
+                values.put(columns.get(i), cells.get(i));
+            }
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            return "Row{" + index + ", " + cells + "}";
+        }
+    }
+
+    public record ExtractionStats(long rows, int chunks, long elapsedMs) {
+
+        public double rowsPerSecond() {
+            return elapsedMs == 0 ? 0 : rows * 1000.0 / elapsedMs;
+        }
+    }
+}
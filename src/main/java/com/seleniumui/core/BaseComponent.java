@@ -1,7 +1,9 @@
 package com.seleniumui.core;
 
+import com.seleniumui.core.actions.AttributeRead;
 import com.seleniumui.core.actions.SmartActions;
 import com.seleniumui.core.waits.SmartWait;
+import com.seleniumui.executors.ScrollResult;
 import org.openqa.selenium.*;
 
 public class BaseComponent {
@@ -39,12 +41,7 @@ public class BaseComponent {
     }
 
     public boolean isPresent() {
-        try {
-            driver.findElement(locator);
-            return true;
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return smartActions.isPresent(locator);
     }
 
     public void waitForInvisibility() {
@@ -59,8 +56,8 @@ public class BaseComponent {
         smartWait.forPresence(locator);
     }
 
-    public void scrollIntoView() {
-        smartActions.scrollToElement(locator);
+    public ScrollResult scrollIntoView() {
+        return smartActions.scrollToElement(locator);
     }
 
     public Point getLocation() {
@@ -79,13 +76,27 @@ public class BaseComponent {
         return find().getRect();
     }
 
+    // Single read without retries; hasClass/hasAttribute answer false for a missing attribute or element
+    public AttributeRead readAttribute(String attribute) {
+        return smartActions.readAttribute(locator, attribute);
+    }
+
     public boolean hasClass(String className) {
-        String classAttribute = getAttribute("class");
+        String classAttribute = readAttribute("class").orElse(null);
         return classAttribute != null && classAttribute.contains(className);
     }
 
     public boolean hasAttribute(String attributeName) {
-        return getAttribute(attributeName) != null;
+        return readAttribute(attributeName).isPresent();
+    }
+
+    // One script for text, value, rect, state and classes; read as many properties as needed without further I/O
+    public ComponentSnapshot snapshot() {
+        return snapshot(ComponentSnapshot.Spec.defaults());
+    }
+
+    public ComponentSnapshot snapshot(ComponentSnapshot.Spec spec) {
+        return ComponentSnapshot.capture(driver, locator, smartActions.getElementCache(), spec);
     }
 
     public void hover() {
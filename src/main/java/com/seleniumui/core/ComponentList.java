@@ -0,0 +1,223 @@
+package com.seleniumui.core;
+
+import com.seleniumui.core.actions.SmartActions;
+import com.seleniumui.core.waits.SmartWait;
+import com.seleniumui.executors.JsLocator;
+import com.seleniumui.executors.ScriptLibrary;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Every match of a locator, resolved once on first use. Bulk reads run as one __sui.collect call over the
+// resolved handles (or do the lookup in the same call when nothing is resolved yet); items are materialised
+// on demand with an IndexedBy locator whose handle is pre-seeded in the ElementCache. A stale handle makes
+// the list resolve again once. Nothing waits: an empty list is an answer, use refresh() after the page changes.
+public class ComponentList<T extends BaseComponent> implements Iterable<T> {
+
+    @FunctionalInterface
+    public interface Factory<T extends BaseComponent> {
+        T create(WebDriver driver, By locator, SmartWait smartWait, SmartActions smartActions);
+    }
+
+    private final WebDriver driver;
+    private final By locator;
+    private final SmartWait smartWait;
+    private final SmartActions smartActions;
+    private final Factory<T> factory;
+    // Positions among all matches of locator; null means every match
+    private final int[] indexes;
+    // The recorded positions that still exist, rebuilt together with elements so both stay the same length
+    private int[] positions;
+    private List<WebElement> elements;
+
+    public ComponentList(WebDriver driver, By locator, SmartWait smartWait, SmartActions smartActions,
+                         Factory<T> factory) {
+        this(driver, locator, smartWait, smartActions, factory, null, null);
+    }
+
+    private ComponentList(WebDriver driver, By locator, SmartWait smartWait, SmartActions smartActions,
+                          Factory<T> factory, int[] indexes, List<WebElement> elements) {
+        this.driver = driver;
+        this.locator = Objects.requireNonNull(locator, "Locator cannot be null");
+        this.smartWait = smartWait;
+        this.smartActions = smartActions;
+        this.factory = Objects.requireNonNull(factory, "Factory cannot be null");
+        this.indexes = indexes;
+        this.positions = indexes;
+        this.elements = elements;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public int count() {
+        return resolve().size();
+    }
+
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    // Drops the resolved handles; the next call looks the matches up again
+    public ComponentList<T> refresh() {
+        elements = null;
+        return this;
+    }
+
+    public List<String> texts() {
+        return collect("text", null).stream().map(value -> (String) value).toList();
+    }
+
+    // Markup attribute of every item; null entries for items without it
+    public List<String> attributes(String name) {
+        Objects.requireNonNull(name, "Attribute name cannot be null");
+        return collect("attribute", name).stream().map(value -> value == null ? null : String.valueOf(value)).toList();
+    }
+
+    public List<ComponentSnapshot> snapshots() {
+        return snapshots(ComponentSnapshot.Spec.defaults());
+    }
+
+    public List<ComponentSnapshot> snapshots(ComponentSnapshot.Spec spec) {
+        Objects.requireNonNull(spec, "Spec cannot be null");
+        List<?> values = collect("snapshot", spec.toScriptArgument());
+        List<ComponentSnapshot> snapshots = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            snapshots.add(ComponentSnapshot.of(itemLocator(i), spec, (Map<?, ?>) values.get(i)));
+        }
+        return snapshots;
+    }
+
+    public ComponentList<T> filter(Predicate<ComponentSnapshot> predicate) {
+        return filter(ComponentSnapshot.Spec.defaults(), predicate);
+    }
+
+    // One bulk snapshot, filtered here; the result keeps the handles already resolved
+    public ComponentList<T> filter(ComponentSnapshot.Spec spec, Predicate<ComponentSnapshot> predicate) {
+        Objects.requireNonNull(predicate, "Predicate cannot be null");
+        List<ComponentSnapshot> snapshots = snapshots(spec);
+        List<WebElement> handles = resolve();
+        List<Integer> kept = new ArrayList<>();
+        List<WebElement> keptHandles = new ArrayList<>();
+        for (int i = 0; i < snapshots.size(); i++) {
+            if (predicate.test(snapshots.get(i))) {
+                kept.add(position(i));
+                keptHandles.add(handles.get(i));
+            }
+        }
+        return new ComponentList<>(driver, locator, smartWait, smartActions, factory,
+                kept.stream().mapToInt(Integer::intValue).toArray(), keptHandles);
+    }
+
+    public T get(int index) {
+        List<WebElement> handles = resolve();
+        if (index < 0 || index >= handles.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + handles.size() + " matches of " + locator);
+        }
+        By itemLocator = itemLocator(index);
+        smartActions.getElementCache().put(itemLocator, handles.get(index));
+        return factory.create(driver, itemLocator, smartWait, smartActions);
+    }
+
+    public T first() {
+        return get(0);
+    }
+
+    public List<T> items() {
+        return IntStream.range(0, count()).mapToObj(this::get).toList();
+    }
+
+    public Stream<T> stream() {
+        return items().stream();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return items().iterator();
+    }
+
+    private By itemLocator(int index) {
+        return new IndexedBy(locator, position(index));
+    }
+
+    private int position(int index) {
+        resolve();
+        return positions == null ? index : positions[index];
+    }
+
+    private List<WebElement> resolve() {
+        if (elements == null) {
+            List<WebElement> all = findAll();
+            if (indexes == null) {
+                elements = all;
+            } else {
+                // Positions past the end after the page lost matches are dropped with their handles
+                List<WebElement> picked = new ArrayList<>(indexes.length);
+                for (int index : indexes) {
+                    if (index < all.size()) {
+                        picked.add(all.get(index));
+                    }
+                }
+                positions = IntStream.of(indexes).filter(index -> index < all.size()).toArray();
+                elements = picked;
+            }
+        }
+        return elements;
+    }
+
+    private List<WebElement> findAll() {
+        if (!JsLocator.isSupported(locator)) {
+            return List.copyOf(driver.findElements(locator));
+        }
+        Object found = ScriptLibrary.call(driver, "findAll", JsLocator.using(locator), JsLocator.value(locator), null);
+        return found instanceof List<?> list ? list.stream().map(WebElement.class::cast).toList() : List.of();
+    }
+
+    private List<?> collect(String op, Object arg) {
+        // Nothing resolved yet: look up and read in the same call, keeping the handles it returns
+        if (elements == null && indexes == null && JsLocator.isSupported(locator)) {
+            Map<?, ?> result = call(null, JsLocator.using(locator), JsLocator.value(locator), op, arg);
+            if (result != null) {
+                elements = result.get("elements") instanceof List<?> list
+                        ? list.stream().map(WebElement.class::cast).toList()
+                        : List.of();
+                return (List<?>) result.get("values");
+            }
+        }
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            List<WebElement> handles = resolve();
+            Map<?, ?> result;
+            try {
+                result = call(handles, null, null, op, arg);
+            } catch (StaleElementReferenceException e) {
+                result = null;
+            }
+            if (result != null) {
+                return (List<?>) result.get("values");
+            }
+            elements = null;
+        }
+        throw new StaleElementReferenceException("Matches of " + locator + " kept going stale while being read");
+    }
+
+    // Null when one of the handles is no longer attached
+    private Map<?, ?> call(List<WebElement> handles, String using, String value, String op, Object arg) {
+        Object response = ScriptLibrary.call(driver, "collect", handles, using, value, op, arg);
+        if (!(response instanceof Map<?, ?> result)) {
+            throw new IllegalStateException("Unexpected bulk read result: " + response);
+        }
+        return result.containsKey("stale") ? null : result;
+    }
+}
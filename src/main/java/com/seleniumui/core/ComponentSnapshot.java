@@ -0,0 +1,333 @@
+package com.seleniumui.core;
+
+import com.seleniumui.executors.JsLocator;
+import com.seleniumui.executors.ScriptLibrary;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Immutable view of one component, collected by a single __sui.snapshot call. Reading it costs no I/O;
+// asking for something the spec did not collect is a programming error and throws IllegalStateException.
+public final class ComponentSnapshot {
+
+    public enum Property {
+        TEXT,
+        VALUE,
+        RECT,
+        DISPLAYED,
+        ENABLED,
+        CLASSES
+    }
+
+    private final By locator;
+    private final Spec spec;
+    private final boolean present;
+    private final String text;
+    private final String value;
+    private final Rectangle rect;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final List<String> classes;
+    private final Map<String, String> attributes;
+    private final Map<String, String> cssValues;
+    private final long capturedAtMillis;
+
+    private ComponentSnapshot(By locator, Spec spec, Map<?, ?> result, long capturedAtMillis) {
+        this.locator = locator;
+        this.spec = spec;
+        this.present = result != null;
+        this.capturedAtMillis = capturedAtMillis;
+        if (result == null) {
+            this.text = null;
+            this.value = null;
+            this.rect = null;
+            this.displayed = false;
+            this.enabled = false;
+            this.classes = List.of();
+            this.attributes = Map.of();
+            this.cssValues = Map.of();
+            return;
+        }
+        this.text = (String) result.get("text");
+        this.value = (String) result.get("value");
+        this.rect = toRectangle(result.get("rect"));
+        this.displayed = Boolean.TRUE.equals(result.get("displayed"));
+        this.enabled = Boolean.TRUE.equals(result.get("enabled"));
+        this.classes = result.get("classes") instanceof List<?> list
+                ? list.stream().map(String::valueOf).toList()
+                : List.of();
+        this.attributes = toStringMap(result.get("attributes"));
+        this.cssValues = toStringMap(result.get("css"));
+    }
+
+    // From a result the bundle already produced, e.g. one entry of a ComponentList bulk read
+    static ComponentSnapshot of(By locator, Spec spec, Map<?, ?> result) {
+        return new ComponentSnapshot(locator, spec, result, System.currentTimeMillis());
+    }
+
+    // Uses the cached element when there is one; otherwise the lookup happens in the same script
+    static ComponentSnapshot capture(WebDriver driver, By locator, ElementCache elementCache, Spec spec) {
+        Objects.requireNonNull(spec, "Spec cannot be null");
+        Map<?, ?> result = null;
+
+        WebElement cached = elementCache.get(locator);
+        if (cached != null) {
+            try {
+                result = call(driver, cached, null, null, spec);
+            } catch (StaleElementReferenceException e) {
+                result = null;
+            }
+            if (result == null || result.containsKey("stale")) {
+                elementCache.invalidateStale(locator);
+                result = null;
+            }
+        }
+
+        if (result == null) {
+            if (JsLocator.isSupported(locator)) {
+                result = call(driver, null, JsLocator.using(locator), JsLocator.value(locator), spec);
+            } else {
+                List<WebElement> found = driver.findElements(locator);
+                result = found.isEmpty() ? Map.of("missing", true) : call(driver, found.get(0), null, null, spec);
+            }
+            if (result.get("element") instanceof WebElement element) {
+                elementCache.put(locator, element);
+            }
+        }
+
+        boolean missing = result.containsKey("missing") || result.containsKey("stale");
+        return new ComponentSnapshot(locator, spec, missing ? null : result, System.currentTimeMillis());
+    }
+
+    private static Map<?, ?> call(WebDriver driver, WebElement element, String using, String value, Spec spec) {
+        Object response = ScriptLibrary.call(driver, "snapshot", element, using, value, spec.toScriptArgument());
+        if (!(response instanceof Map<?, ?> result)) {
+            throw new IllegalStateException("Unexpected snapshot result: " + response);
+        }
+        return result;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    public String getText() {
+        require(Property.TEXT);
+        return text;
+    }
+
+    // Null for elements without a value property
+    public String getValue() {
+        require(Property.VALUE);
+        return value;
+    }
+
+    public Rectangle getRect() {
+        require(Property.RECT);
+        return rect;
+    }
+
+    // An absent component is simply not displayed
+    public boolean isDisplayed() {
+        if (!spec.properties.contains(Property.DISPLAYED)) {
+            throw notCollected(Property.DISPLAYED.name());
+        }
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        require(Property.ENABLED);
+        return enabled;
+    }
+
+    public List<String> getClasses() {
+        require(Property.CLASSES);
+        return classes;
+    }
+
+    // Whole class tokens, unlike BaseComponent.hasClass which matches substrings of the attribute
+    public boolean hasClass(String className) {
+        return getClasses().contains(className);
+    }
+
+    // Markup attribute as getDomAttribute returns it; null when the element does not carry it
+    public String getAttribute(String name) {
+        if (!spec.attributes.contains(name)) {
+            throw notCollected("attribute '" + name + "'");
+        }
+        requirePresent();
+        return attributes.get(name);
+    }
+
+    public boolean hasAttribute(String name) {
+        return getAttribute(name) != null;
+    }
+
+    public Map<String, String> getAttributes() {
+        requirePresent();
+        return attributes;
+    }
+
+    public String getCssValue(String propertyName) {
+        if (!spec.cssProperties.contains(propertyName)) {
+            throw notCollected("CSS property '" + propertyName + "'");
+        }
+        requirePresent();
+        return cssValues.get(propertyName);
+    }
+
+    public Map<String, String> getCssValues() {
+        requirePresent();
+        return cssValues;
+    }
+
+    private void require(Property property) {
+        if (!spec.properties.contains(property)) {
+            throw notCollected(property.name());
+        }
+        requirePresent();
+    }
+
+    private void requirePresent() {
+        if (!present) {
+            throw new NoSuchElementException("Element was not present when the snapshot was taken: " + locator);
+        }
+    }
+
+    private IllegalStateException notCollected(String what) {
+        return new IllegalStateException(what + " was not part of the snapshot of " + locator);
+    }
+
+    private static Rectangle toRectangle(Object raw) {
+        if (!(raw instanceof Map<?, ?> map)) {
+            return null;
+        }
+        // Same truncation as RemoteWebElement.getRect
+        return new Rectangle(
+                ((Number) map.get("x")).intValue(),
+                ((Number) map.get("y")).intValue(),
+                ((Number) map.get("height")).intValue(),
+                ((Number) map.get("width")).intValue());
+    }
+
+    private static Map<String, String> toStringMap(Object raw) {
+        if (!(raw instanceof Map<?, ?> map)) {
+            return Map.of();
+        }
+        // LinkedHashMap keeps the requested order and tolerates the null of a missing attribute
+        Map<String, String> values = new LinkedHashMap<>();
+        map.forEach((key, val) -> values.put(String.valueOf(key), val == null ? null : String.valueOf(val)));
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public String toString() {
+        if (!present) {
+            return "ComponentSnapshot{" + locator + ", absent}";
+        }
+        return "ComponentSnapshot{" + locator +
+                (spec.properties.contains(Property.TEXT) ? ", text='" + text + "'" : "") +
+                (spec.properties.contains(Property.VALUE) ? ", value='" + value + "'" : "") +
+                (spec.properties.contains(Property.DISPLAYED) ? ", displayed=" + displayed : "") +
+                (spec.properties.contains(Property.ENABLED) ? ", enabled=" + enabled : "") +
+                (spec.properties.contains(Property.RECT) ? ", rect=" + rect : "") +
+                (spec.properties.contains(Property.CLASSES) ? ", classes=" + classes : "") +
+                (attributes.isEmpty() ? "" : ", attributes=" + attributes) +
+                (cssValues.isEmpty() ? "" : ", css=" + cssValues) +
+                "}";
+    }
+
+    // What to collect; defaults() covers every Property but no attributes or CSS values
+    public static final class Spec {
+
+        private static final Spec DEFAULTS = builder().with(Property.values()).build();
+
+        private final Set<Property> properties;
+        private final Set<String> attributes;
+        private final Set<String> cssProperties;
+
+        private Spec(Builder builder) {
+            this.properties = Collections.unmodifiableSet(EnumSet.copyOf(builder.properties));
+            this.attributes = Collections.unmodifiableSet(new LinkedHashSet<>(builder.attributes));
+            this.cssProperties = Collections.unmodifiableSet(new LinkedHashSet<>(builder.cssProperties));
+        }
+
+        public static Spec defaults() {
+            return DEFAULTS;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public Set<Property> getProperties() {
+            return properties;
+        }
+
+        public Set<String> getAttributes() {
+            return attributes;
+        }
+
+        public Set<String> getCssProperties() {
+            return cssProperties;
+        }
+
+        Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            for (Property property : Property.values()) {
+                argument.put(property.name().toLowerCase(), properties.contains(property));
+            }
+            argument.put("attributes", new ArrayList<>(attributes));
+            argument.put("css", new ArrayList<>(cssProperties));
+            return argument;
+        }
+
+        public static final class Builder {
+            private final Set<Property> properties = EnumSet.noneOf(Property.class);
+            private final Set<String> attributes = new LinkedHashSet<>();
+            private final Set<String> cssProperties = new LinkedHashSet<>();
+
+            private Builder() {}
+
+            public Builder with(Property... properties) {
+                this.properties.addAll(List.of(properties));
+                return this;
+            }
+
+            public Builder attributes(String... names) {
+                attributes.addAll(List.of(names));
+                return this;
+            }
+
+            public Builder css(String... propertyNames) {
+                cssProperties.addAll(List.of(propertyNames));
+                return this;
+            }
+
+            public Spec build() {
+                return new Spec(this);
+            }
+        }
+    }
+}
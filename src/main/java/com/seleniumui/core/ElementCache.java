@@ -0,0 +1,135 @@
+package com.seleniumui.core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Per-session locator -> element handles, so the element found by a wait is reused by the action that follows.
+// Dropped wholesale when the epoch moves (navigation or a reported DOM mutation) and per locator when a handle
+// turns out to be stale. Mutations are reported in batches, so a re-render in the last ~50ms may not be seen yet.
+public final class ElementCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final LongSupplier epochSource;
+    private final int maxEntries;
+    private final Map<By, WebElement> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleEvictions = new LongAdder();
+    private final LongAdder epochEvictions = new LongAdder();
+    private volatile long epoch;
+
+    public ElementCache(LongSupplier epochSource) {
+        this(epochSource, DEFAULT_MAX_ENTRIES);
+    }
+
+    public ElementCache(LongSupplier epochSource, int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries cannot be negative");
+        }
+        this.epochSource = epochSource;
+        this.maxEntries = maxEntries;
+        this.epoch = epochSource.getAsLong();
+    }
+
+    // Never stores anything; every resolve goes to the driver
+    public static ElementCache disabled() {
+        return new ElementCache(() -> 0, 0);
+    }
+
+    public WebElement get(By locator) {
+        checkEpoch();
+        WebElement element = entries.get(locator);
+        if (element != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return element;
+    }
+
+    public void put(By locator, WebElement element) {
+        if (maxEntries == 0 || locator == null || element == null) {
+            return;
+        }
+        checkEpoch();
+        // Long-running pages with generated locators: start over rather than track recency
+        if (entries.size() >= maxEntries && !entries.containsKey(locator)) {
+            entries.clear();
+        }
+        entries.put(locator, element);
+    }
+
+    public WebElement resolve(By locator, Function<By, WebElement> finder) {
+        WebElement element = get(locator);
+        if (element == null) {
+            element = finder.apply(locator);
+            put(locator, element);
+        }
+        return element;
+    }
+
+    public void invalidate(By locator) {
+        entries.remove(locator);
+    }
+
+    // The handle threw StaleElementReferenceException; the next resolve goes back to the driver
+    public void invalidateStale(By locator) {
+        if (entries.remove(locator) != null) {
+            staleEvictions.increment();
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private void checkEpoch() {
+        long current = epochSource.getAsLong();
+        if (current != epoch) {
+            epoch = current;
+            if (!entries.isEmpty()) {
+                entries.clear();
+                epochEvictions.increment();
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : hitCount / (double) total;
+    }
+
+    public long getStaleEvictions() {
+        return staleEvictions.sum();
+    }
+
+    public long getEpochEvictions() {
+        return epochEvictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ElementCache{size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() +
+                ", staleEvictions=" + getStaleEvictions() + ", epochEvictions=" + getEpochEvictions() + "}";
+    }
+}
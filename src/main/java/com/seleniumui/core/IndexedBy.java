@@ -0,0 +1,52 @@
+package com.seleniumui.core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Objects;
+
+// The index-th match of another locator; how ComponentList items keep a locator of their own
+public final class IndexedBy extends By {
+
+    private final By parent;
+    private final int index;
+
+    public IndexedBy(By parent, int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative: " + index);
+        }
+        this.parent = Objects.requireNonNull(parent, "Parent locator cannot be null");
+        this.index = index;
+    }
+
+    public By getParent() {
+        return parent;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        List<WebElement> all = context.findElements(parent);
+        return index < all.size() ? List.of(all.get(index)) : List.of();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IndexedBy other && index == other.index && parent.equals(other.parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * parent.hashCode() + index;
+    }
+
+    @Override
+    public String toString() {
+        return parent + "[" + index + "]";
+    }
+}
@@ -2,15 +2,22 @@ package com.seleniumui.core;
 
 import com.seleniumui.components.Button;
 import com.seleniumui.components.Dropdown;
+import com.seleniumui.components.Form;
 import com.seleniumui.components.Input;
 import com.seleniumui.components.Label;
+import com.seleniumui.components.Table;
 import com.seleniumui.core.actions.SmartActions;
 import com.seleniumui.core.waits.SmartWait;
+import com.seleniumui.executors.RetryGuard;
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
 public class SeleniumUI implements AutoCloseable {
 
+    private static final Logger LOG = Log.getLogger(SeleniumUI.class);
+
     private final WebDriver driver;
     private final SmartWait smartWait;
     private final SmartActions smartActions;
@@ -20,7 +27,7 @@ public class SeleniumUI implements AutoCloseable {
     private SeleniumUI(WebDriver driver) {
         this.driver = driver;
         this.smartWait = new SmartWait(driver);
-        this.smartActions = new SmartActions(driver);
+        this.smartActions = new SmartActions(driver, smartWait.getElementCache(), smartWait.getRetryScheduler());
     }
 
     public static SeleniumUI initialize(WebDriver driver) {
@@ -41,6 +48,15 @@ public class SeleniumUI implements AutoCloseable {
         return instance;
     }
 
+    // Exposes the circuit/budget state so runners can shed load instead of piling on retries
+    public RetryGuard getRetryGuard() {
+        return smartActions.getRetryGuard();
+    }
+
+    public ElementCache getElementCache() {
+        return smartWait.getElementCache();
+    }
+
     public Button button(By locator) {
         return new Button(driver, locator, smartWait, smartActions);
     }
@@ -53,16 +69,38 @@ public class SeleniumUI implements AutoCloseable {
         return new Label(driver, locator, smartWait, smartActions);
     }
 
+    // Every match, resolved once; bulk reads (texts, attributes, filter, count) cost one script each
+    public ComponentList<Label> labels(By locator) {
+        return new ComponentList<>(driver, locator, smartWait, smartActions, Label::new);
+    }
+
+    public ComponentList<Button> buttons(By locator) {
+        return new ComponentList<>(driver, locator, smartWait, smartActions, Button::new);
+    }
+
     public Input input(By locator) {
         return new Input(driver, locator, smartWait, smartActions);
     }
 
+    public Table table(By locator) {
+        return new Table(driver, locator, smartWait, smartActions);
+    }
+
+    public Form form(By locator) {
+        return new Form(driver, locator, smartWait, smartActions);
+    }
+
+    // Whole page as the form root
+    public Form form() {
+        return form(By.tagName("body"));
+    }
+
     @Override
     public void close() {
         try {
             ((AutoCloseable) smartWait).close();
         } catch (Exception e) {
-            System.err.println("Warning: Error during SmartWait cleanup: " + e.getMessage());
+            LOG.warn("Error during SmartWait cleanup: {}", e.getMessage());
         } finally {
             INSTANCE.remove();
         }
@@ -0,0 +1,343 @@
+package com.seleniumui.core.actions;
+
+import com.seleniumui.core.ElementCache;
+import com.seleniumui.exceptions.ElementInteractionException;
+import com.seleniumui.executors.JsLocator;
+import com.seleniumui.executors.ScriptLibrary;
+import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Records actions and flushes them with as few round trips as possible: one script resolves every locator
+// the cache does not already know, consecutive input steps go out as one W3C actions chain and consecutive
+// script steps as one executeScript. Stops at the first failing group; later steps are reported as skipped.
+// A batch scoped to a root element resolves every locator under it and bypasses the element cache, whose
+// entries are keyed by locator alone and may belong to another container.
+public final class ActionBatch {
+
+    private static final String SCRIPT_STEPS =
+            "const [steps] = arguments;" +
+                    "const results = [];" +
+                    "for (const [kind, el] of steps) {" +
+                    "  try {" +
+                    "    if (!el.isConnected) throw new Error('stale element reference');" +
+                    "    if (kind === 'JS_CLICK') el.click();" +
+                    "    else if (kind === 'FOCUS') el.focus();" +
+                    "    results.push(null);" +
+                    "  } catch (e) {" +
+                    "    results.push(String(e));" +
+                    "    break;" +
+                    "  }" +
+                    "}" +
+                    "return results;";
+
+    private enum Kind {
+        CLICK,
+        DOUBLE_CLICK,
+        RIGHT_CLICK,
+        HOVER,
+        CLEAR,
+        TYPE,
+        PRESS_KEY,
+        JS_CLICK,
+        FOCUS;
+
+        private boolean scripted() {
+            return this == JS_CLICK || this == FOCUS;
+        }
+    }
+
+    public enum Status {
+        SUCCEEDED,
+        FAILED,
+        SKIPPED
+    }
+
+    private record Step(int index, Kind kind, By locator, CharSequence text) {
+        private String describe() {
+            return kind + " " + locator + (kind == Kind.TYPE || kind == Kind.PRESS_KEY ? " '" + text + "'" : "");
+        }
+    }
+
+    public record StepResult(int index, String description, Status status, RuntimeException error) {
+    }
+
+    public record Result(List<StepResult> steps, int roundTrips) {
+
+        public boolean isSuccess() {
+            return steps.stream().allMatch(step -> step.status() == Status.SUCCEEDED);
+        }
+
+        public List<StepResult> failures() {
+            return steps.stream().filter(step -> step.status() == Status.FAILED).toList();
+        }
+
+        public Result throwIfFailed() {
+            List<StepResult> failures = failures();
+            if (!failures.isEmpty()) {
+                StepResult first = failures.get(0);
+                throw new ElementInteractionException("Batch step " + first.index() + " failed: " +
+                        first.description(), first.error());
+            }
+            return this;
+        }
+    }
+
+    private final WebDriver driver;
+    private final ElementCache elementCache;
+    private final WebElement root;
+    private final List<Step> steps = new ArrayList<>();
+
+    ActionBatch(WebDriver driver, ElementCache elementCache) {
+        this(driver, elementCache, null);
+    }
+
+    ActionBatch(WebDriver driver, ElementCache elementCache, WebElement root) {
+        this.driver = driver;
+        this.elementCache = root == null ? elementCache : ElementCache.disabled();
+        this.root = root;
+    }
+
+    public ActionBatch click(By locator) {
+        return add(Kind.CLICK, locator, null);
+    }
+
+    public ActionBatch doubleClick(By locator) {
+        return add(Kind.DOUBLE_CLICK, locator, null);
+    }
+
+    public ActionBatch rightClick(By locator) {
+        return add(Kind.RIGHT_CLICK, locator, null);
+    }
+
+    public ActionBatch hover(By locator) {
+        return add(Kind.HOVER, locator, null);
+    }
+
+    // Select-all plus backspace, so it can travel in the same actions chain as the typing that follows
+    public ActionBatch clear(By locator) {
+        return add(Kind.CLEAR, locator, null);
+    }
+
+    public ActionBatch type(By locator, CharSequence text) {
+        return add(Kind.TYPE, locator, Objects.requireNonNull(text, "Text cannot be null"));
+    }
+
+    public ActionBatch clearAndType(By locator, CharSequence text) {
+        return clear(locator).type(locator, text);
+    }
+
+    public ActionBatch pressKey(By locator, CharSequence key) {
+        return add(Kind.PRESS_KEY, locator, Objects.requireNonNull(key, "Key cannot be null"));
+    }
+
+    public ActionBatch jsClick(By locator) {
+        return add(Kind.JS_CLICK, locator, null);
+    }
+
+    public ActionBatch focus(By locator) {
+        return add(Kind.FOCUS, locator, null);
+    }
+
+    private ActionBatch add(Kind kind, By locator, CharSequence text) {
+        steps.add(new Step(steps.size(), kind, Objects.requireNonNull(locator, "Locator cannot be null"), text));
+        return this;
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    public Result execute() {
+        StepResult[] results = new StepResult[steps.size()];
+        int[] roundTrips = {0};
+
+        Map<By, WebElement> elements;
+        try {
+            elements = resolveAll(roundTrips);
+        } catch (RuntimeException e) {
+            steps.forEach(step -> results[step.index()] = failed(step, e));
+            return new Result(List.of(results), roundTrips[0]);
+        }
+
+        boolean failed = false;
+        int start = 0;
+        while (start < steps.size()) {
+            int end = start;
+            while (end < steps.size() && steps.get(end).kind().scripted() == steps.get(start).kind().scripted()) {
+                end++;
+            }
+            List<Step> group = steps.subList(start, end);
+
+            if (failed) {
+                group.forEach(step -> results[step.index()] = skipped(step));
+            } else {
+                failed = group.get(0).kind().scripted()
+                        ? !runScripted(group, elements, results, roundTrips)
+                        : !runInput(group, elements, results, roundTrips);
+            }
+            start = end;
+        }
+        return new Result(List.of(results), roundTrips[0]);
+    }
+
+    // Cache hits cost nothing; everything else is looked up in one script
+    private Map<By, WebElement> resolveAll(int[] roundTrips) {
+        Map<By, WebElement> elements = new LinkedHashMap<>();
+        List<By> missing = new ArrayList<>();
+        for (Step step : steps) {
+            By locator = step.locator();
+            if (elements.containsKey(locator) || missing.contains(locator)) {
+                continue;
+            }
+            WebElement cached = elementCache.get(locator);
+            if (cached != null) {
+                elements.put(locator, cached);
+            } else {
+                missing.add(locator);
+            }
+        }
+        if (missing.isEmpty()) {
+            return elements;
+        }
+
+        List<By> scriptable = missing.stream().filter(JsLocator::isSupported).toList();
+        if (!scriptable.isEmpty()) {
+            List<List<String>> lookups = scriptable.stream()
+                    .map(locator -> Arrays.asList(JsLocator.using(locator), JsLocator.value(locator)))
+                    .toList();
+            roundTrips[0]++;
+            Object found = ScriptLibrary.call(driver, "resolveAll", lookups, root);
+            List<?> foundElements = found instanceof List<?> list ? list : List.of();
+            for (int i = 0; i < scriptable.size(); i++) {
+                if (i < foundElements.size() && foundElements.get(i) instanceof WebElement element) {
+                    elements.put(scriptable.get(i), element);
+                    elementCache.put(scriptable.get(i), element);
+                }
+            }
+        }
+        for (By locator : missing) {
+            if (!elements.containsKey(locator) && !JsLocator.isSupported(locator)) {
+                roundTrips[0]++;
+                WebElement element = root != null ? root.findElement(locator) : driver.findElement(locator);
+                elements.put(locator, element);
+                elementCache.put(locator, element);
+            }
+        }
+        return elements;
+    }
+
+    private boolean runInput(List<Step> group, Map<By, WebElement> elements, StepResult[] results, int[] roundTrips) {
+        Actions actions = new Actions(driver);
+        for (Step step : group) {
+            WebElement element = elements.get(step.locator());
+            if (element == null) {
+                return failGroup(group, results, new NoSuchElementException("Unable to locate element: " + step.locator()));
+            }
+            switch (step.kind()) {
+                case CLICK -> actions.click(element);
+                case DOUBLE_CLICK -> actions.doubleClick(element);
+                case RIGHT_CLICK -> actions.contextClick(element);
+                case HOVER -> actions.moveToElement(element);
+                case CLEAR -> actions.click(element)
+                        .keyDown(selectAllModifier()).sendKeys("a").keyUp(selectAllModifier())
+                        .sendKeys(Keys.BACK_SPACE);
+                case TYPE, PRESS_KEY -> actions.sendKeys(element, step.text());
+                default -> throw new IllegalStateException("Not an input step: " + step.kind());
+            }
+        }
+
+        try {
+            roundTrips[0]++;
+            actions.perform();
+        } catch (RuntimeException e) {
+            if (e instanceof StaleElementReferenceException) {
+                group.forEach(step -> elementCache.invalidateStale(step.locator()));
+            }
+            // One payload: the driver does not say which step broke, so the whole group is reported
+            return failGroup(group, results, e);
+        }
+        group.forEach(step -> results[step.index()] = succeeded(step));
+        return true;
+    }
+
+    private boolean runScripted(List<Step> group, Map<By, WebElement> elements, StepResult[] results, int[] roundTrips) {
+        List<List<Object>> payload = new ArrayList<>();
+        for (Step step : group) {
+            WebElement element = elements.get(step.locator());
+            if (element == null) {
+                return failGroup(group, results, new NoSuchElementException("Unable to locate element: " + step.locator()));
+            }
+            payload.add(Arrays.asList(step.kind().name(), element));
+        }
+
+        Object response;
+        try {
+            roundTrips[0]++;
+            response = ((JavascriptExecutor) driver).executeScript(SCRIPT_STEPS, payload);
+        } catch (RuntimeException e) {
+            return failGroup(group, results, e);
+        }
+
+        List<?> outcomes = response instanceof List<?> list ? list : List.of();
+        boolean succeeded = true;
+        for (int i = 0; i < group.size(); i++) {
+            Step step = group.get(i);
+            if (!succeeded || i >= outcomes.size()) {
+                results[step.index()] = skipped(step);
+                succeeded = false;
+            } else if (outcomes.get(i) != null) {
+                // Only a handle that was resolved and has since left the document is stale
+                if (String.valueOf(outcomes.get(i)).contains("stale element reference")) {
+                    elementCache.invalidateStale(step.locator());
+                }
+                results[step.index()] = failed(step,
+                        new ElementInteractionException(step.describe() + ": " + outcomes.get(i)));
+                succeeded = false;
+            } else {
+                results[step.index()] = succeeded(step);
+            }
+        }
+        return succeeded;
+    }
+
+    private Keys selectAllModifier() {
+        if (driver instanceof HasCapabilities capabilities
+                && capabilities.getCapabilities().getPlatformName() != null
+                && capabilities.getCapabilities().getPlatformName().is(Platform.MAC)) {
+            return Keys.COMMAND;
+        }
+        return Keys.CONTROL;
+    }
+
+    private static boolean failGroup(List<Step> group, StepResult[] results, RuntimeException error) {
+        group.forEach(step -> results[step.index()] = failed(step, error));
+        return false;
+    }
+
+    private static StepResult succeeded(Step step) {
+        return new StepResult(step.index(), step.describe(), Status.SUCCEEDED, null);
+    }
+
+    private static StepResult failed(Step step, RuntimeException error) {
+        return new StepResult(step.index(), step.describe(), Status.FAILED, error);
+    }
+
+    private static StepResult skipped(Step step) {
+        return new StepResult(step.index(), step.describe(), Status.SKIPPED, null);
+    }
+}
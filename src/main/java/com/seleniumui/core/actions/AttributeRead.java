@@ -0,0 +1,44 @@
+package com.seleniumui.core.actions;
+
+import org.openqa.selenium.NoSuchElementException;
+
+// Outcome of a single, non-retrying attribute read: "no" is an answer, not an error
+public record AttributeRead(Status status, String value) {
+
+    public enum Status {
+        PRESENT,
+        ABSENT,
+        ELEMENT_MISSING
+    }
+
+    private static final AttributeRead ABSENT = new AttributeRead(Status.ABSENT, null);
+    private static final AttributeRead ELEMENT_MISSING = new AttributeRead(Status.ELEMENT_MISSING, null);
+
+    static AttributeRead of(String value) {
+        return value != null ? new AttributeRead(Status.PRESENT, value) : ABSENT;
+    }
+
+    static AttributeRead elementMissing() {
+        return ELEMENT_MISSING;
+    }
+
+    public boolean isPresent() {
+        return status == Status.PRESENT;
+    }
+
+    public boolean isElementMissing() {
+        return status == Status.ELEMENT_MISSING;
+    }
+
+    public String orElse(String fallback) {
+        return status == Status.PRESENT ? value : fallback;
+    }
+
+    // For callers that treat a missing element as a failure but an absent attribute as a normal answer
+    public AttributeRead requireElement(String description) {
+        if (status == Status.ELEMENT_MISSING) {
+            throw new NoSuchElementException("Unable to locate element: " + description);
+        }
+        return this;
+    }
+}
@@ -1,95 +1,348 @@
 package com.seleniumui.core.actions;
 
+import com.seleniumui.core.ElementCache;
+import com.seleniumui.exceptions.ElementInteractionException;
 import com.seleniumui.executors.JsExecutor;
+import com.seleniumui.executors.JsLocator;
+import com.seleniumui.executors.RetryDecision;
 import com.seleniumui.executors.RetryExecutor;
+import com.seleniumui.executors.RetryGuard;
+import com.seleniumui.executors.RetryPolicy;
+import com.seleniumui.executors.RetryScheduler;
+import com.seleniumui.executors.ScriptLibrary;
+import com.seleniumui.executors.ScrollResult;
+import com.seleniumui.logging.Log;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 public class SmartActions {
 
+    public enum Action {
+        GET_ATTRIBUTE,
+        SCROLL,
+        CLICK,
+        DOUBLE_CLICK,
+        RIGHT_CLICK,
+        JS_CLICK,
+        CLEAR,
+        TYPE,
+        SET_VALUE,
+        PRESS_KEY,
+        GET_TEXT,
+        HOVER,
+        FOCUS
+    }
+
     private final WebDriver driver;
+    private final ElementCache elementCache;
+    private final Map<Action, RetryPolicy> retryPolicies = new EnumMap<>(Action.class);
+    private volatile RetryGuard retryGuard;
+    private volatile RetryScheduler retryScheduler;
 
     public SmartActions(WebDriver driver) {
+        this(driver, ElementCache.disabled());
+    }
+
+    // Share the SmartWait cache so actions reuse the elements its waits resolved
+    public SmartActions(WebDriver driver, ElementCache elementCache) {
+        this(driver, elementCache, null);
+    }
+
+    // The scheduler runs the async variants; without one they throw IllegalStateException
+    public SmartActions(WebDriver driver, ElementCache elementCache, RetryScheduler retryScheduler) {
         this.driver = Objects.requireNonNull(driver, "WebDriver cannot be null");
+        this.elementCache = Objects.requireNonNull(elementCache, "ElementCache cannot be null");
+        this.retryScheduler = retryScheduler;
+        this.retryGuard = new RetryGuard("session " + Log.sessionId(driver));
+        setRetryPolicy(RetryPolicy.defaults());
+        // A rejected value is rejected again on the next attempt
+        setRetryPolicy(Action.SET_VALUE, RetryPolicy.defaults().toBuilder()
+                .on(ElementInteractionException.class, RetryDecision.FAIL_FAST)
+                .build());
+    }
+
+    // Budget and circuit breaker shared by every action of this session
+    public RetryGuard getRetryGuard() {
+        return retryGuard;
+    }
+
+    public void setRetryGuard(RetryGuard retryGuard) {
+        this.retryGuard = Objects.requireNonNull(retryGuard, "RetryGuard cannot be null");
+    }
+
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    public void setRetryScheduler(RetryScheduler retryScheduler) {
+        this.retryScheduler = Objects.requireNonNull(retryScheduler, "RetryScheduler cannot be null");
+    }
+
+    private RetryScheduler asyncScheduler() {
+        RetryScheduler scheduler = retryScheduler;
+        if (scheduler == null) {
+            throw new IllegalStateException("Async actions need a RetryScheduler, e.g. SmartWait.getRetryScheduler()");
+        }
+        return scheduler;
+    }
+
+    // Same policy for every action
+    public void setRetryPolicy(RetryPolicy policy) {
+        Objects.requireNonNull(policy, "RetryPolicy cannot be null");
+        for (Action action : Action.values()) {
+            retryPolicies.put(action, policy);
+        }
+    }
+
+    public void setRetryPolicy(Action action, RetryPolicy policy) {
+        retryPolicies.put(action, Objects.requireNonNull(policy, "RetryPolicy cannot be null"));
+    }
+
+    public RetryPolicy getRetryPolicy(Action action) {
+        return retryPolicies.get(action);
+    }
+
+    // Records steps and sends them together; see ActionBatch
+    public ActionBatch batch() {
+        return new ActionBatch(driver, elementCache);
+    }
+
+    // Every locator is resolved under root, e.g. the fields of one form when another uses the same names
+    public ActionBatch batch(WebElement root) {
+        return new ActionBatch(driver, elementCache, Objects.requireNonNull(root, "Root cannot be null"));
+    }
+
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    private Supplier<WebElement> resolve(By locator) {
+        return new CachedResolver(locator);
     }
 
     public String getAttribute(By locator, String attribute) {
-        return RetryExecutor.getWithRetry(() -> {
-            WebElement element = driver.findElement(locator);
-            return Objects.requireNonNull(element.getAttribute(attribute));
-        });
+        return RetryExecutor.getWithRetry(resolve(locator),
+                element -> Objects.requireNonNull(element.getAttribute(attribute)),
+                retryPolicies.get(Action.GET_ATTRIBUTE), retryGuard);
+    }
+
+    // One read, no retries: an absent attribute or a missing element is an answer, not an error.
+    // Same property-aware semantics as getAttribute, so a typed-into input has a value and an unchecked box has no checked.
+    // A missing element still costs one in-page lookup; a present one adds the getAttribute call
+    public AttributeRead readAttribute(By locator, String attribute) {
+        WebElement cached = elementCache.get(locator);
+        if (cached != null) {
+            try {
+                return AttributeRead.of(cached.getAttribute(attribute));
+            } catch (StaleElementReferenceException e) {
+                elementCache.invalidateStale(locator);
+            }
+        }
+        if (JsLocator.isSupported(locator)) {
+            Object found = ScriptLibrary.call(driver, "find", JsLocator.using(locator), JsLocator.value(locator), null);
+            if (!(found instanceof WebElement element)) {
+                return AttributeRead.elementMissing();
+            }
+            elementCache.put(locator, element);
+            return AttributeRead.of(element.getAttribute(attribute));
+        }
+        List<WebElement> found = driver.findElements(locator);
+        if (found.isEmpty()) {
+            return AttributeRead.elementMissing();
+        }
+        elementCache.put(locator, found.get(0));
+        return AttributeRead.of(found.get(0).getAttribute(attribute));
     }
 
-    public void scrollToElement(By locator) {
-        RetryExecutor.runWithRetry(() -> JsExecutor.scrollToElement(driver, locator));
+    // Zero-wait presence probe: an in-page query never pays the implicit wait, so "not there" costs one round trip.
+    // Locators the page cannot resolve fall back to findElements, which waits only if an implicit wait is set
+    public boolean isPresent(By locator) {
+        if (!JsLocator.isSupported(locator)) {
+            List<WebElement> found = driver.findElements(locator);
+            if (!found.isEmpty()) {
+                elementCache.put(locator, found.get(0));
+            }
+            return !found.isEmpty();
+        }
+        Object found = ScriptLibrary.call(driver, "find", JsLocator.using(locator), JsLocator.value(locator), null);
+        if (found instanceof WebElement element) {
+            elementCache.put(locator, element);
+            return true;
+        }
+        return false;
     }
 
-    public void scrollToElement(WebElement element) {
-        RetryExecutor.runWithRetry(() -> JsExecutor.scrollToElement(driver, element));
+    public ScrollResult scrollToElement(By locator) {
+        return RetryExecutor.getWithRetry(() -> JsExecutor.scrollToElement(driver, locator),
+                retryPolicies.get(Action.SCROLL), retryGuard);
+    }
+
+    public ScrollResult scrollToElement(WebElement element) {
+        return RetryExecutor.getWithRetry(() -> JsExecutor.scrollToElement(driver, element),
+                retryPolicies.get(Action.SCROLL), retryGuard);
     }
 
     public void click(By locator) {
-        click(driver.findElement(locator));
+        RetryExecutor.runWithRetry(resolve(locator), WebElement::click, retryPolicies.get(Action.CLICK), retryGuard);
     }
 
     public void click(WebElement element) {
-        RetryExecutor.runWithRetry(element::click);
+        RetryExecutor.runWithRetry(element::click, retryPolicies.get(Action.CLICK), retryGuard);
     }
 
     public void doubleClick(By locator) {
-        RetryExecutor.runWithRetry(() -> {
-            WebElement element = driver.findElement(locator);
-            Actions actions = new Actions(driver);
-            actions.doubleClick(element).perform();
-        });
+        RetryExecutor.runWithRetry(resolve(locator), element -> new Actions(driver).doubleClick(element).perform(),
+                retryPolicies.get(Action.DOUBLE_CLICK), retryGuard);
     }
 
     public void rightClick(By locator) {
-        RetryExecutor.runWithRetry(() -> {
-            WebElement element = driver.findElement(locator);
-            Actions actions = new Actions(driver);
-            actions.contextClick(element).perform();
-        });
+        RetryExecutor.runWithRetry(resolve(locator), element -> new Actions(driver).contextClick(element).perform(),
+                retryPolicies.get(Action.RIGHT_CLICK), retryGuard);
     }
 
     public void jsClick(By locator) {
-        RetryExecutor.runWithRetry(() -> JsExecutor.jsClick(driver, locator));
+        RetryExecutor.runWithRetry(() -> JsExecutor.jsClick(driver, locator), retryPolicies.get(Action.JS_CLICK), retryGuard);
     }
 
     public void clear(By locator) {
-        RetryExecutor.runWithRetry(() -> driver.findElement(locator).clear());
+        RetryExecutor.runWithRetry(resolve(locator), WebElement::clear, retryPolicies.get(Action.CLEAR), retryGuard);
     }
 
     public void type(By locator, String text) {
-        RetryExecutor.runWithRetry(() -> driver.findElement(locator).sendKeys(text));
+        RetryExecutor.runWithRetry(resolve(locator), element -> element.sendKeys(text), retryPolicies.get(Action.TYPE), retryGuard);
+    }
+
+    // Scoped to a container and never cached: the cache is keyed by locator alone
+    public void type(SearchContext root, By locator, String text) {
+        RetryExecutor.runWithRetry(() -> root.findElement(locator), element -> element.sendKeys(text),
+                retryPolicies.get(Action.TYPE), retryGuard);
+    }
+
+    // Sends text in chunks: bounded commands for large payloads; each chunk retries on its own
+    public void typeChunked(By locator, String text, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than 0");
+        }
+        int start = 0;
+        while (start < text.length()) {
+            // Never split a surrogate pair across two commands
+            int end = Math.min(text.length(), start + chunkSize);
+            if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end++;
+            }
+            String chunk = text.substring(start, end);
+            RetryExecutor.runWithRetry(resolve(locator), element -> element.sendKeys(chunk),
+                    retryPolicies.get(Action.TYPE), retryGuard);
+            start = end;
+        }
+    }
+
+    // Value assignment with input/change/blur events instead of key events
+    public void setValue(By locator, String value, boolean append) {
+        RetryExecutor.runWithRetry(resolve(locator), element -> JsExecutor.setValue(driver, element, value, append),
+                retryPolicies.get(Action.SET_VALUE), retryGuard);
     }
 
     public void pressEnter(By locator) {
-        RetryExecutor.runWithRetry(() -> driver.findElement(locator).sendKeys(Keys.ENTER));
+        pressKey(locator, Keys.ENTER);
     }
 
     public void pressTab(By locator) {
-        RetryExecutor.runWithRetry(() -> driver.findElement(locator).sendKeys(Keys.TAB));
+        pressKey(locator, Keys.TAB);
     }
 
     public void pressKey(By locator, CharSequence key) {
-        RetryExecutor.runWithRetry(() -> driver.findElement(locator).sendKeys(key));
+        RetryExecutor.runWithRetry(resolve(locator), element -> element.sendKeys(key), retryPolicies.get(Action.PRESS_KEY), retryGuard);
     }
 
     public String getText(By locator) {
-        return RetryExecutor.getWithRetry(() -> driver.findElement(locator).getText());
+        return RetryExecutor.getWithRetry(resolve(locator), WebElement::getText, retryPolicies.get(Action.GET_TEXT), retryGuard);
     }
 
     public void hoverOverElement(By locator) {
-        RetryExecutor.runWithRetry(() -> {
-            Actions actions = new Actions(driver);
-            actions.moveToElement(driver.findElement(locator)).perform();
-        });
+        RetryExecutor.runWithRetry(resolve(locator), element -> new Actions(driver).moveToElement(element).perform(),
+                retryPolicies.get(Action.HOVER), retryGuard);
     }
 
     public void focusElement(By locator) {
-        RetryExecutor.runWithRetry(() -> JsExecutor.focusElement(driver, locator));
+        RetryExecutor.runWithRetry(() -> JsExecutor.focusElement(driver, locator), retryPolicies.get(Action.FOCUS), retryGuard);
+    }
+
+    // Async variants: the caller is never parked, so one thread can drive many sessions
+    public CompletableFuture<Void> clickAsync(By locator) {
+        return RetryExecutor.runWithRetryAsync(asyncScheduler(), resolve(locator), WebElement::click,
+                retryPolicies.get(Action.CLICK), retryGuard);
+    }
+
+    public CompletableFuture<Void> jsClickAsync(By locator) {
+        return RetryExecutor.runWithRetryAsync(asyncScheduler(), () -> JsExecutor.jsClick(driver, locator),
+                retryPolicies.get(Action.JS_CLICK), retryGuard);
+    }
+
+    public CompletableFuture<Void> clearAsync(By locator) {
+        return RetryExecutor.runWithRetryAsync(asyncScheduler(), resolve(locator), WebElement::clear,
+                retryPolicies.get(Action.CLEAR), retryGuard);
+    }
+
+    public CompletableFuture<Void> typeAsync(By locator, String text) {
+        return RetryExecutor.runWithRetryAsync(asyncScheduler(), resolve(locator), element -> element.sendKeys(text),
+                retryPolicies.get(Action.TYPE), retryGuard);
+    }
+
+    public CompletableFuture<Void> pressKeyAsync(By locator, CharSequence key) {
+        return RetryExecutor.runWithRetryAsync(asyncScheduler(), resolve(locator), element -> element.sendKeys(key),
+                retryPolicies.get(Action.PRESS_KEY), retryGuard);
+    }
+
+    public CompletableFuture<Void> hoverOverElementAsync(By locator) {
+        return RetryExecutor.runWithRetryAsync(asyncScheduler(), resolve(locator),
+                element -> new Actions(driver).moveToElement(element).perform(),
+                retryPolicies.get(Action.HOVER), retryGuard);
+    }
+
+    public CompletableFuture<String> getTextAsync(By locator) {
+        return RetryExecutor.getWithRetryAsync(asyncScheduler(), resolve(locator), WebElement::getText,
+                retryPolicies.get(Action.GET_TEXT), retryGuard);
+    }
+
+    public CompletableFuture<String> getAttributeAsync(By locator, String attribute) {
+        return RetryExecutor.getWithRetryAsync(asyncScheduler(), resolve(locator),
+                element -> Objects.requireNonNull(element.getAttribute(attribute)),
+                retryPolicies.get(Action.GET_ATTRIBUTE), retryGuard);
+    }
+
+    // The first attempt may use the cached handle; RetryExecutor only asks again after a stale handle
+    // (RE_RESOLVE), so every later call evicts the entry and goes to the driver
+    private final class CachedResolver implements Supplier<WebElement> {
+        private final By locator;
+        private final AtomicBoolean firstAttempt = new AtomicBoolean(true);
+
+        private CachedResolver(By locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public WebElement get() {
+            return firstAttempt.getAndSet(false) ? fromCache() : reResolve();
+        }
+
+        private WebElement fromCache() {
+            return elementCache.resolve(locator, driver::findElement);
+        }
+
+        private WebElement reResolve() {
+            elementCache.invalidateStale(locator);
+            WebElement element = driver.findElement(locator);
+            elementCache.put(locator, element);
+            return element;
+        }
     }
 }
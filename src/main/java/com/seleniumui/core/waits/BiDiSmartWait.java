@@ -2,6 +2,9 @@ package com.seleniumui.core.waits;
 
 import com.seleniumui.exceptions.BiDiInitializationException;
 import com.seleniumui.exceptions.WaitConditionFailedException;
+import com.seleniumui.executors.ScriptLibrary;
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
@@ -9,7 +12,10 @@ import org.openqa.selenium.bidi.BiDi;
 import org.openqa.selenium.bidi.Command;
 import org.openqa.selenium.bidi.Event;
 import org.openqa.selenium.bidi.log.ConsoleLogEntry;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
 
+import java.io.StringReader;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -20,48 +26,87 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class BiDiSmartWait implements AutoCloseable {
+    private static final Json JSON = new Json();
+
     private final BiDi biDi;
     private final WebDriver driver;
+    private final Logger log;
     private final long defaultTimeoutSeconds;
-    private final ScheduledExecutorService scheduler;
-    private final Map<String, CompletableFuture<?>> pendingFutures;
+    private final WaitScheduler.Session scheduler;
+    private final ScriptPollCoordinator scriptPoller;
+    private final EventWaiters<ConsoleLogEntry> consoleWaiters = new EventWaiters<>();
+    private final EventWaiters<Map<String, Object>> exceptionWaiters = new EventWaiters<>();
+    private final EventWaiters<Long> domChangeWaiters = new EventWaiters<>();
     private final Map<Long, Event<?>> eventListeners;
 
     // DOM stability tracking
     private final AtomicReference<String> lastDomHash = new AtomicReference<>("");
     private final AtomicLong lastDomChangeTime = new AtomicLong(System.currentTimeMillis());
     private final AtomicInteger domChangeCount = new AtomicInteger(0);
-    private ScheduledFuture<?> domStabilityChecker;
+    private WaitScheduler.Task domStabilityChecker;
+    private volatile DomMonitoringMode domMonitoringMode;
+    private final String domChannel = "smartwait-dom-" + UUID.randomUUID();
+    private String domObserverScriptId;
+    private String scriptLibraryPreloadId;
 
     // Network tracking
-    private final AtomicInteger activeRequestCount = new AtomicInteger(0);
-    private final AtomicLong lastNetworkActivityTime = new AtomicLong(System.currentTimeMillis());
+    private final NetworkTracker networkTracker = new NetworkTracker();
     private boolean networkMonitoringEnabled = false;
     private final AtomicBoolean isShutdown = new AtomicBoolean(false);
 
-    // Console message filtering
-    private final Map<String, Predicate<ConsoleLogEntry>> consoleFilters;
-
-    // Exception tracking
-    private final List<Map<String, Object>> caughtExceptions;
+    // Page epoch: advanced by navigation and network activity; page-ready results are memoised per epoch
+    private final AtomicLong pageEpoch = new AtomicLong(0);
+    private final AtomicLong navigationEpoch = new AtomicLong(0);
+    // Advanced by navigation and by every reported batch of DOM mutations; element handles are only trusted
+    // within one DOM epoch
+    private final AtomicLong domEpoch = new AtomicLong(0);
+    private volatile long readyEpoch = -1;
+    private final Object pageReadyLock = new Object();
+    private CompletableFuture<Void> pageReadyInFlight;
+    private final AtomicLong pageReadyChecks = new AtomicLong(0);
+    private final AtomicLong pageReadyMemoHits = new AtomicLong(0);
+
+    // Bounded history of console messages and uncaught exceptions
+    private final ConsoleEventBuffer consoleEvents = new ConsoleEventBuffer();
+    private final ConsoleEventBuffer exceptionEvents = new ConsoleEventBuffer();
+    // The log.entryAdded payloads themselves, for getCaughtExceptions; exceptions are rare, so a lock is fine
+    private final Deque<Map<String, Object>> caughtExceptions = new ArrayDeque<>();
+    private final EventWaiters<ConsoleEvent> consoleEventWaiters = new EventWaiters<>();
+
+    // Installed once per realm; coalesces mutation records and reports them over a script.message channel
+    private static final String DOM_OBSERVER_SCRIPT =
+            "(emit) => {" +
+                    "  if (window.__smartWaitDomObserver) return;" +
+                    "  let pending = 0;" +
+                    "  let timer = null;" +
+                    "  const flush = () => { timer = null; const count = pending; pending = 0; emit(count); };" +
+                    "  const observer = new MutationObserver(records => {" +
+                    "    pending += records.length;" +
+                    "    if (timer === null) timer = setTimeout(flush, 50);" +
+                    "  });" +
+                    "  observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+                    "  window.__smartWaitDomObserver = observer;" +
+                    "}";
+    private static final String DOM_OBSERVER_SANDBOX = "smartwait";
+
+    public enum DomMonitoringMode {
+        POLLING,
+        MUTATION_OBSERVER
+    }
 
     public BiDiSmartWait(WebDriver driver, BiDi biDi, long defaultTimeoutSeconds) {
+        this(driver, biDi, defaultTimeoutSeconds, DomMonitoringMode.MUTATION_OBSERVER);
+    }
+
+    public BiDiSmartWait(WebDriver driver, BiDi biDi, long defaultTimeoutSeconds, DomMonitoringMode domMonitoringMode) {
         this.driver = driver;
         this.biDi = biDi;
+        this.log = Log.getLogger(BiDiSmartWait.class, driver);
         this.defaultTimeoutSeconds = defaultTimeoutSeconds;
-        this.scheduler = Executors.newScheduledThreadPool(2, new ThreadFactory() {
-            private final AtomicInteger threadCount = new AtomicInteger(0);
-            @Override
-            public Thread newThread(Runnable r) {
-                Thread thread = new Thread(r, "bidi-smartwait-" + threadCount.incrementAndGet());
-                thread.setDaemon(true);
-                return thread;
-            }
-        });
-        this.pendingFutures = new ConcurrentHashMap<>();
+        this.domMonitoringMode = Objects.requireNonNull(domMonitoringMode, "DOM monitoring mode cannot be null");
+        this.scheduler = WaitScheduler.shared().openSession("bidi-smartwait-" + UUID.randomUUID());
+        this.scriptPoller = new ScriptPollCoordinator(driver, scheduler);
         this.eventListeners = new ConcurrentHashMap<>();
-        this.consoleFilters = new ConcurrentHashMap<>();
-        this.caughtExceptions = new CopyOnWriteArrayList<>();
 
         initializeEventListeners();
     }
@@ -78,6 +123,20 @@ public class BiDiSmartWait implements AutoCloseable {
             long domContentListenerId = biDi.addListener(domContentEvent, this::handleDomContentLoaded);
             eventListeners.put(domContentListenerId, domContentEvent);
 
+            // Navigation lifecycle advances the page epoch
+            Event<Map<String, Object>> navigationStartedEvent =
+                    new Event<>("browsingContext.navigationStarted", input -> input);
+            long navigationStartedListenerId = biDi.addListener(navigationStartedEvent,
+                    event -> advanceNavigationEpoch());
+            eventListeners.put(navigationStartedListenerId, navigationStartedEvent);
+
+            Event<Map<String, Object>> loadEvent = new Event<>("browsingContext.load", input -> input);
+            long loadListenerId = biDi.addListener(loadEvent, event -> advanceNavigationEpoch());
+            eventListeners.put(loadListenerId, loadEvent);
+
+            // Helper bundle first: DOM polling calls into it
+            installScriptLibrary();
+
             // Start DOM stability monitoring
             startDomStabilityMonitoring();
 
@@ -93,46 +152,105 @@ public class BiDiSmartWait implements AutoCloseable {
         String type = (String) consoleData.get("type");
         String text = (String) consoleData.get("text");
 
-        System.out.println("Console " + type + ": " + text);
+        // log.entryAdded carries both console calls and uncaught exceptions
+        if ("javascript".equals(type)) {
+            handleJsException(consoleData);
+            return;
+        }
 
-        // Notify console wait conditions
-        pendingFutures.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith("console:"))
-                .forEach(entry -> {
-                    @SuppressWarnings("unchecked")
-                    CompletableFuture<Map<String, Object>> future =
-                            (CompletableFuture<Map<String, Object>>) entry.getValue();
-                    if (!future.isDone()) {
-                        future.complete(consoleData);
-                    }
-                });
+        log.debug("Console {}: {}", type, text);
+
+        // Buffer before dispatching so a waiter registered concurrently sees the entry one way or the other
+        ConsoleEvent event = consoleEvents.add(ConsoleEvent.Kind.CONSOLE,
+                ConsoleEvent.parseLevel(consoleData.get("level")), sourceContext(consoleData), text);
+        if (!consoleEventWaiters.isEmpty()) {
+            consoleEventWaiters.dispatch(event);
+        }
+
+        // Only pay for typed parsing when someone is waiting
+        if (!consoleWaiters.isEmpty()) {
+            ConsoleLogEntry entry = toConsoleLogEntry(consoleData);
+            if (entry != null) {
+                consoleWaiters.dispatch(entry);
+            }
+        }
     }
 
     private void handleJsException(Map<String, Object> exceptionData) {
         String exceptionText = extractExceptionDetails(exceptionData);
-        System.err.println("JavaScript Exception: " + exceptionText);
-        caughtExceptions.add(exceptionData);
+        log.warn("JavaScript exception: {}", exceptionText);
+        exceptionEvents.add(ConsoleEvent.Kind.EXCEPTION,
+                ConsoleEvent.parseLevel(exceptionData.get("level")), sourceContext(exceptionData), exceptionText);
+        synchronized (caughtExceptions) {
+            caughtExceptions.addLast(exceptionData);
+            if (caughtExceptions.size() > exceptionEvents.getCapacity()) {
+                caughtExceptions.removeFirst();
+            }
+        }
 
-        // Notify exception wait conditions
-        pendingFutures.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith("exception:"))
-                .forEach(entry -> {
-                    @SuppressWarnings("unchecked")
-                    CompletableFuture<Map<String, Object>> future =
-                            (CompletableFuture<Map<String, Object>>) entry.getValue();
-                    if (!future.isDone()) {
-                        future.complete(exceptionData);
-                    }
-                });
+        exceptionWaiters.dispatch(exceptionData);
+    }
+
+    private static String sourceContext(Map<String, Object> entryData) {
+        return entryData.get("source") instanceof Map<?, ?> source ? (String) source.get("context") : null;
+    }
+
+    private ConsoleLogEntry toConsoleLogEntry(Map<String, Object> consoleData) {
+        try (JsonInput input = JSON.newInput(new StringReader(JSON.toJson(consoleData)))) {
+            return ConsoleLogEntry.fromJson(input);
+        } catch (Exception e) {
+            log.warn("Unable to parse console entry: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Rebuilt from the buffer: method, arguments and stack trace are not kept
+    private static ConsoleLogEntry toConsoleLogEntry(ConsoleEvent event) {
+        return new ConsoleLogEntry(event.level(), null, event.text(), event.receivedAt(), "console", null,
+                List.of(), null);
+    }
+
+    // Same keys as a log.entryAdded event, as far as the buffer keeps them
+    private static Map<String, Object> toExceptionData(ConsoleEvent event) {
+        Map<String, Object> exception = new HashMap<>();
+        exception.put("type", "javascript");
+        exception.put("level", event.level().toString());
+        exception.put("text", event.text());
+        exception.put("timestamp", event.receivedAt());
+        if (event.context() != null) {
+            exception.put("source", Map.of("context", event.context()));
+        }
+        return exception;
     }
 
     private void handleDomContentLoaded(Map<String, Object> domData) {
+        advanceNavigationEpoch();
+
         // Reset DOM monitoring state on navigation
         lastDomHash.set("");
+        lastDomChangeTime.set(System.currentTimeMillis());
         domChangeCount.set(0);
         resetNetworkMonitoring();
     }
 
+    private void advanceNavigationEpoch() {
+        navigationEpoch.incrementAndGet();
+        domEpoch.incrementAndGet();
+        pageEpoch.incrementAndGet();
+    }
+
+    private void handleScriptMessage(Map<String, Object> message) {
+        if (!domChannel.equals(message.get("channel"))) {
+            return;
+        }
+
+        // One message per coalesced batch of mutations
+        lastDomChangeTime.set(System.currentTimeMillis());
+        domChangeCount.incrementAndGet();
+        domEpoch.incrementAndGet();
+        notifyDomChangeListeners();
+    }
+
     private String extractExceptionDetails(Map<String, Object> exceptionData) {
         try {
             @SuppressWarnings("unchecked")
@@ -147,6 +265,11 @@ public class BiDiSmartWait implements AutoCloseable {
     }
 
     private void startDomStabilityMonitoring() {
+        if (domMonitoringMode == DomMonitoringMode.MUTATION_OBSERVER && installDomObserver()) {
+            return;
+        }
+        domMonitoringMode = DomMonitoringMode.POLLING;
+
         domStabilityChecker = scheduler.scheduleAtFixedRate(() -> {
             try {
                 String currentHash = calculateDomHash();
@@ -156,68 +279,141 @@ public class BiDiSmartWait implements AutoCloseable {
                     lastDomHash.set(currentHash);
                     lastDomChangeTime.set(System.currentTimeMillis());
                     domChangeCount.incrementAndGet();
+                    domEpoch.incrementAndGet();
 
                     // Notify DOM change listeners
                     notifyDomChangeListeners();
                 }
             } catch (Exception e) {
                 // Log but don't break the monitoring
-                System.err.println("DOM monitoring error: " + e.getMessage());
+                log.warn("DOM monitoring error: {}", e.getMessage());
             }
         }, 0, 200, TimeUnit.MILLISECONDS); // Reduced frequency for better performance
     }
 
+    private boolean installDomObserver() {
+        Event<Map<String, Object>> messageEvent = new Event<>("script.message", input -> input);
+        long messageListenerId = -1;
+        try {
+            messageListenerId = biDi.addListener(messageEvent, this::handleScriptMessage);
+            eventListeners.put(messageListenerId, messageEvent);
+
+            Map<String, Object> channel = Map.of("type", "channel", "value", Map.of("channel", domChannel));
+
+            Map<?, ?> result = sendCommand("script.addPreloadScript", Map.of(
+                    "functionDeclaration", DOM_OBSERVER_SCRIPT,
+                    "arguments", List.of(channel),
+                    "sandbox", DOM_OBSERVER_SANDBOX
+            ), Map.class);
+            domObserverScriptId = (String) result.get("script");
+
+            // Preload scripts only run in new realms, so cover the document that is already loaded
+            sendCommand("script.callFunction", Map.of(
+                    "functionDeclaration", DOM_OBSERVER_SCRIPT,
+                    "awaitPromise", false,
+                    "target", Map.of("context", driver.getWindowHandle(), "sandbox", DOM_OBSERVER_SANDBOX),
+                    "arguments", List.of(channel)
+            ), Map.class);
+            return true;
+        } catch (Exception e) {
+            log.info("MutationObserver DOM monitoring not available, falling back to polling: {}", e.getMessage());
+            if (messageListenerId != -1) {
+                removeEventListener(messageListenerId);
+            }
+            removeDomObserver();
+            return false;
+        }
+    }
+
+    private void removeDomObserver() {
+        String scriptId = domObserverScriptId;
+        domObserverScriptId = null;
+        if (scriptId == null) {
+            return;
+        }
+        try {
+            sendCommand("script.removePreloadScript", Map.of("script", scriptId), Map.class);
+        } catch (Exception e) {
+            log.warn("Failed to remove DOM observer preload script: {}", e.getMessage());
+        }
+    }
+
     private void notifyDomChangeListeners() {
-        pendingFutures.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith("domchange:"))
-                .forEach(entry -> {
-                    @SuppressWarnings("unchecked")
-                    CompletableFuture<Long> future = (CompletableFuture<Long>) entry.getValue();
-                    if (!future.isDone()) {
-                        future.complete(lastDomChangeTime.get());
-                    }
-                });
+        if (!domChangeWaiters.isEmpty()) {
+            domChangeWaiters.dispatch(lastDomChangeTime.get());
+        }
     }
 
     private String calculateDomHash() {
         try {
-            // More efficient DOM state calculation
-            Object result = ((JavascriptExecutor) driver).executeScript(
-                    "return document.readyState + '|' + document.body.children.length + '|' + " +
-                            "Array.from(document.querySelectorAll('*')).filter(el => el.tagName.match(/^[A-Z]/)).length"
-            );
-            return String.valueOf(result).hashCode() + "";
+            return String.valueOf(ScriptLibrary.call(driver, "domHash")).hashCode() + "";
         } catch (Exception e) {
             return "error_" + System.currentTimeMillis();
         }
     }
 
+    // Main-world preload so every new document already holds the helper bundle, plus one install into the
+    // document that is already loaded; ScriptLibrary injects it lazily whenever a realm still lacks it
+    private void installScriptLibrary() {
+        try {
+            Map<?, ?> result = sendCommand("script.addPreloadScript",
+                    Map.of("functionDeclaration", ScriptLibrary.PRELOAD_FUNCTION), Map.class);
+            scriptLibraryPreloadId = (String) result.get("script");
+            log.debug("Script library {} preloaded", ScriptLibrary.VERSION);
+        } catch (Exception e) {
+            log.info("Script library preload not available, injecting on demand: {}", e.getMessage());
+        }
+        try {
+            ScriptLibrary.install(driver);
+        } catch (Exception e) {
+            log.debug("Could not install script library into the current document: {}", e.getMessage());
+        }
+    }
+
+    private void removeScriptLibrary() {
+        String scriptId = scriptLibraryPreloadId;
+        scriptLibraryPreloadId = null;
+        if (scriptId == null) {
+            return;
+        }
+        try {
+            sendCommand("script.removePreloadScript", Map.of("script", scriptId), Map.class);
+        } catch (Exception e) {
+            log.warn("Failed to remove script library preload script: {}", e.getMessage());
+        }
+    }
+
     private void enableNetworkMonitoring() {
         try {
             // Try to use BiDi network events if available
             Event<Map<String, Object>> networkRequestEvent = new Event<>("network.beforeRequestSent", input -> input);
             Event<Map<String, Object>> networkResponseEvent = new Event<>("network.responseCompleted", input -> input);
+            Event<Map<String, Object>> networkErrorEvent = new Event<>("network.fetchError", input -> input);
 
-            long requestListenerId = biDi.addListener(networkRequestEvent,
-                    event -> activeRequestCount.incrementAndGet());
-            long responseListenerId = biDi.addListener(networkResponseEvent,
-                    event -> activeRequestCount.decrementAndGet());
+            long requestListenerId = biDi.addListener(networkRequestEvent, event -> {
+                if (networkTracker.onRequestStarted(event)) {
+                    pageEpoch.incrementAndGet();
+                }
+            });
+            long responseListenerId = biDi.addListener(networkResponseEvent, networkTracker::onRequestCompleted);
+            long errorListenerId = biDi.addListener(networkErrorEvent, networkTracker::onRequestFailed);
 
             eventListeners.put(requestListenerId, networkRequestEvent);
             eventListeners.put(responseListenerId, networkResponseEvent);
+            eventListeners.put(errorListenerId, networkErrorEvent);
             networkMonitoringEnabled = true;
-            System.out.println("BiDi network monitoring enabled");
+            log.debug("BiDi network monitoring enabled");
         } catch (Exception e) {
-            System.out.println("BiDi network events not available, falling back to JavaScript monitoring");
+            log.info("BiDi network events not available, falling back to JavaScript monitoring");
             injectNetworkMonitoringScript();
         }
     }
 
     private void resetNetworkMonitoring() {
+        // BiDi requests of the previous document end with fetchError, so the table needs no reset
         if (!networkMonitoringEnabled) {
             injectNetworkMonitoringScript();
         }
-        activeRequestCount.set(0);
     }
 
     private void injectNetworkMonitoringScript() {
@@ -250,7 +446,7 @@ public class BiDiSmartWait implements AutoCloseable {
         try {
             ((JavascriptExecutor) driver).executeScript(script);
         } catch (Exception e) {
-            System.err.println("Failed to inject network monitoring: " + e.getMessage());
+            log.warn("Failed to inject network monitoring: {}", e.getMessage());
         }
     }
 
@@ -264,7 +460,8 @@ public class BiDiSmartWait implements AutoCloseable {
         CUSTOM
     }
 
-    // Enhanced console message waiting with filtering
+    // Enhanced console message waiting with filtering. Only messages logged from now on match; use the
+    // sinceReceivedAtMs overload to also accept ones already buffered
     public CompletableFuture<ConsoleLogEntry> waitForConsoleMessage(
             Predicate<ConsoleLogEntry> filter) {
         return waitForConsoleMessage(filter, defaultTimeoutSeconds, TimeUnit.SECONDS);
@@ -272,23 +469,55 @@ public class BiDiSmartWait implements AutoCloseable {
 
     public CompletableFuture<ConsoleLogEntry> waitForConsoleMessage(
             Predicate<ConsoleLogEntry> filter, long timeout, TimeUnit unit) {
+        return waitForConsoleMessage(filter, System.currentTimeMillis(), timeout, unit);
+    }
 
-        String key = "console:" + System.currentTimeMillis() + ":" + UUID.randomUUID();
-        CompletableFuture<ConsoleLogEntry> future = new CompletableFuture<>();
-
-        consoleFilters.put(key, filter);
-        pendingFutures.put(key, future);
-
-        return future.orTimeout(timeout, unit)
+    // A buffered entry only keeps level, text, timestamp and browsing context; live entries are complete
+    public CompletableFuture<ConsoleLogEntry> waitForConsoleMessage(
+            Predicate<ConsoleLogEntry> filter, long sinceReceivedAtMs, long timeout, TimeUnit unit) {
+
+        // Register first, then scan: an entry arriving in between is seen by the scan, the waiter, or both
+        CompletableFuture<ConsoleLogEntry> future = consoleWaiters.register(filter);
+        for (ConsoleEvent event : consoleEvents.since(sinceReceivedAtMs)) {
+            ConsoleLogEntry entry = toConsoleLogEntry(event);
+            if (filter.test(entry)) {
+                future.complete(entry);
+                break;
+            }
+        }
+        return future
+                .orTimeout(timeout, unit)
                 .whenComplete((result, error) -> {
-                    pendingFutures.remove(key);
-                    consoleFilters.remove(key);
-                    if (error instanceof TimeoutException) {
-                        System.out.println("Timeout waiting for console message matching filter");
+                    if (error instanceof java.util.concurrent.TimeoutException) {
+                        log.debug("Timeout waiting for console message matching filter");
                     }
                 });
     }
 
+    // Matches entries already buffered since the given time as well as new ones
+    public CompletableFuture<ConsoleEvent> waitForConsoleEvent(
+            Predicate<ConsoleEvent> filter, long sinceReceivedAtMs, long timeout, TimeUnit unit) {
+
+        // Register first, then scan: an entry arriving in between is seen by the scan, the waiter, or both
+        CompletableFuture<ConsoleEvent> future = consoleEventWaiters.register(
+                event -> event.receivedAt() >= sinceReceivedAtMs && filter.test(event));
+        consoleEvents.findFirst(sinceReceivedAtMs, filter).ifPresent(future::complete);
+        return future.orTimeout(timeout, unit);
+    }
+
+    public CompletableFuture<ConsoleEvent> waitForConsoleEvent(String expectedText, long sinceReceivedAtMs) {
+        return waitForConsoleEvent(event -> event.text().contains(expectedText), sinceReceivedAtMs,
+                defaultTimeoutSeconds, TimeUnit.SECONDS);
+    }
+
+    public ConsoleEventBuffer getConsoleEvents() {
+        return consoleEvents;
+    }
+
+    public ConsoleEventBuffer getExceptionEvents() {
+        return exceptionEvents;
+    }
+
     // Overload for simple text matching
     public CompletableFuture<ConsoleLogEntry> waitForConsoleMessage(String expectedText) {
         return waitForConsoleMessage(entry ->
@@ -306,16 +535,21 @@ public class BiDiSmartWait implements AutoCloseable {
         return waitForJavascriptException(defaultTimeoutSeconds, TimeUnit.SECONDS);
     }
 
+    // Like console messages, only exceptions thrown from now on match
     public CompletableFuture<Map<String, Object>> waitForJavascriptException(
             long timeout, TimeUnit unit) {
+        return waitForJavascriptException(System.currentTimeMillis(), timeout, unit);
+    }
 
-        String key = "exception:" + System.currentTimeMillis() + ":" + UUID.randomUUID();
-        CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
-
-        pendingFutures.put(key, future);
+    // Also matches exceptions buffered since the given time; those carry the keys of toExceptionData only
+    public CompletableFuture<Map<String, Object>> waitForJavascriptException(
+            long sinceReceivedAtMs, long timeout, TimeUnit unit) {
 
-        return future.orTimeout(timeout, unit)
-                .whenComplete((result, error) -> pendingFutures.remove(key));
+        // Register first, then scan: an exception arriving in between is seen by the scan, the waiter, or both
+        CompletableFuture<Map<String, Object>> future = exceptionWaiters.register(null);
+        exceptionEvents.findFirst(sinceReceivedAtMs, event -> true)
+                .ifPresent(event -> future.complete(toExceptionData(event)));
+        return future.orTimeout(timeout, unit);
     }
 
     // Fixed DOM stability waiting
@@ -326,6 +560,10 @@ public class BiDiSmartWait implements AutoCloseable {
     public CompletableFuture<Void> waitForDomStable(
             long stabilityThresholdMs, long timeout, TimeUnit unit) {
 
+        if (domMonitoringMode == DomMonitoringMode.MUTATION_OBSERVER) {
+            return waitForDomQuiet(stabilityThresholdMs, timeout, unit);
+        }
+
         return waitForCondition(
                 () -> {
                     long timeSinceLastChange = System.currentTimeMillis() - lastDomChangeTime.get();
@@ -333,40 +571,73 @@ public class BiDiSmartWait implements AutoCloseable {
                 },
                 "DOM stable for " + stabilityThresholdMs + "ms",
                 timeout,
-                unit
+                unit,
+                WaitMetrics.Condition.DOM_STABLE
         );
     }
 
+    // Event-driven variant: only wakes up when the quiet period could have elapsed
+    private CompletableFuture<Void> waitForDomQuiet(long stabilityThresholdMs, long timeout, TimeUnit unit) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        long metricsStart = WaitMetrics.start();
+        long timeoutMs = unit.toMillis(timeout);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        AtomicReference<WaitScheduler.Task> pendingCheck = new AtomicReference<>();
+        AtomicInteger wakeUps = new AtomicInteger();
+
+        Runnable check = new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    return;
+                }
+                wakeUps.incrementAndGet();
+                long now = System.currentTimeMillis();
+                long quietForMs = now - lastDomChangeTime.get();
+
+                if (quietForMs >= stabilityThresholdMs) {
+                    future.complete(null);
+                } else if (now >= deadline) {
+                    future.completeExceptionally(
+                            new TimeoutException("Condition not met within " + timeoutMs + "ms: DOM stable for " +
+                                    stabilityThresholdMs + "ms"));
+                } else {
+                    long nextCheckMs = Math.min(stabilityThresholdMs - quietForMs, deadline - now);
+                    pendingCheck.set(scheduler.schedule(this, nextCheckMs, TimeUnit.MILLISECONDS));
+                }
+            }
+        };
+
+        pendingCheck.set(scheduler.schedule(check, 0, TimeUnit.MILLISECONDS));
+        future.whenComplete((result, error) -> {
+            WaitScheduler.Task scheduled = pendingCheck.get();
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            WaitMetrics.record(WaitMetrics.Condition.DOM_STABLE, null, metricsStart,
+                    error instanceof TimeoutException, wakeUps.get());
+        });
+        return future;
+    }
+
     // Wait for DOM change
     public CompletableFuture<Long> waitForDomChange() {
         return waitForDomChange(defaultTimeoutSeconds, TimeUnit.SECONDS);
     }
 
     public CompletableFuture<Long> waitForDomChange(long timeout, TimeUnit unit) {
-        String key = "domchange:" + System.currentTimeMillis() + ":" + UUID.randomUUID();
-        CompletableFuture<Long> future = new CompletableFuture<>();
-
-        pendingFutures.put(key, future);
-
-        return future.orTimeout(timeout, unit)
-                .whenComplete((result, error) -> pendingFutures.remove(key));
+        return domChangeWaiters.register(null).orTimeout(timeout, unit);
     }
 
     // DOM ready state
     public CompletableFuture<Void> waitForDomReady() {
-        return waitForCondition(
-                () -> {
-                    try {
-                        Object result = ((JavascriptExecutor) driver)
-                                .executeScript("return document.readyState");
-                        return "complete".equals(result);
-                    } catch (Exception e) {
-                        return false;
-                    }
-                },
+        return scriptPoller.register(
+                "document.readyState",
+                "complete"::equals,
                 "DOM ready state complete",
                 defaultTimeoutSeconds,
-                TimeUnit.SECONDS
+                TimeUnit.SECONDS,
+                WaitMetrics.Condition.DOM_READY
         );
     }
 
@@ -382,49 +653,75 @@ public class BiDiSmartWait implements AutoCloseable {
             injectNetworkMonitoringScript();
         }
 
-        final AtomicLong lastRequestTime = new AtomicLong(System.currentTimeMillis());
-
-        return waitForCondition(
-                () -> {
-                    try {
-                        int activeRequests;
-                        if (networkMonitoringEnabled) {
-                            activeRequests = activeRequestCount.get();
-                        } else {
-                            Object result = ((JavascriptExecutor) driver)
-                                    .executeScript("return window.__smartWaitActiveRequests || 0");
-                            activeRequests = ((Number) result).intValue();
-                        }
+        long waitStart = System.currentTimeMillis();
+        String description = "Network idle for " + idleThresholdMs + "ms";
 
-                        if (activeRequests > 0) {
+        if (!networkMonitoringEnabled) {
+            // The in-page counter only shows requests in flight at poll time, so activity is tracked per wait
+            AtomicLong lastRequestTime = new AtomicLong(waitStart);
+            return scriptPoller.register(
+                    "window.__smartWaitActiveRequests || 0",
+                    result -> {
+                        if (!(result instanceof Number count) || count.intValue() > 0) {
                             lastRequestTime.set(System.currentTimeMillis());
-                            return false;
                         }
+                        return isNetworkIdle(0, lastRequestTime.get(), idleThresholdMs);
+                    },
+                    description,
+                    timeout,
+                    unit,
+                    WaitMetrics.Condition.NETWORK_IDLE
+            );
+        }
 
-                        return System.currentTimeMillis() - lastRequestTime.get() >= idleThresholdMs;
-                    } catch (Exception e) {
-                        return false;
-                    }
-                },
-                "Network idle for " + idleThresholdMs + "ms",
+        // The tracker sees every start and finish, so a request that came and went between polls restarts the window
+        return waitForCondition(
+                () -> isNetworkIdle(networkTracker.getActiveRequestCount(),
+                        Math.max(waitStart, networkTracker.getLastActivityTime()), idleThresholdMs),
+                description,
                 timeout,
-                unit
+                unit,
+                WaitMetrics.Condition.NETWORK_IDLE
         );
     }
 
+    private static boolean isNetworkIdle(int activeRequests, long lastActivityTime, long idleThresholdMs) {
+        return activeRequests == 0 && System.currentTimeMillis() - lastActivityTime >= idleThresholdMs;
+    }
+
+    // JS-backed condition: merged with the session's other pending script conditions into one round trip per tick
+    public CompletableFuture<Void> waitForScriptCondition(
+            String expression,
+            Predicate<Object> accept,
+            String description,
+            long timeout,
+            TimeUnit unit) {
+        return scriptPoller.register(expression, accept, description, timeout, unit, null);
+    }
+
     // Enhanced generic condition waiter with better error handling
     public CompletableFuture<Void> waitForCondition(
             Callable<Boolean> condition,
             String description,
             long timeout,
             TimeUnit unit) {
+        return waitForCondition(condition, description, timeout, unit, null);
+    }
+
+    private CompletableFuture<Void> waitForCondition(
+            Callable<Boolean> condition,
+            String description,
+            long timeout,
+            TimeUnit unit,
+            WaitMetrics.Condition metric) {
 
         CompletableFuture<Void> future = new CompletableFuture<>();
+        long metricsStart = metric != null ? WaitMetrics.start() : 0;
         long startTime = System.currentTimeMillis();
         long timeoutMs = unit.toMillis(timeout);
         AtomicInteger checkCount = new AtomicInteger(0);
 
-        ScheduledFuture<?> scheduledTask = scheduler.scheduleAtFixedRate(() -> {
+        WaitScheduler.Task scheduledTask = scheduler.scheduleAtFixedRate(() -> {
             try {
                 checkCount.incrementAndGet();
 
@@ -440,7 +737,10 @@ public class BiDiSmartWait implements AutoCloseable {
             }
         }, 0, 100, TimeUnit.MILLISECONDS);
 
-        future.whenComplete((result, error) -> scheduledTask.cancel(true));
+        future.whenComplete((result, error) -> {
+            scheduledTask.cancel();
+            WaitMetrics.record(metric, null, metricsStart, error instanceof TimeoutException, checkCount.get());
+        });
         return future;
     }
 
@@ -496,14 +796,64 @@ public class BiDiSmartWait implements AutoCloseable {
 
     // Smart page load wait with enhanced logic
     public CompletableFuture<Void> waitForPageReady() {
-        return waitForAll(
-                waitForDomReady(),
-                waitForNetworkIdle(1000),
-                waitForDomStable(500)
-        ).exceptionally(throwable -> {
-            System.err.println("Page ready wait completed with errors: " + throwable.getMessage());
-            return null;
-        });
+        // Without BiDi network events the epoch cannot see XHR/fetch activity, so never reuse a result
+        if (networkMonitoringEnabled && readyEpoch == pageEpoch.get()) {
+            pageReadyMemoHits.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        synchronized (pageReadyLock) {
+            if (pageReadyInFlight != null && !pageReadyInFlight.isDone()) {
+                return pageReadyInFlight;
+            }
+
+            pageReadyChecks.incrementAndGet();
+            // Memoise the epoch the check started in, and only if nothing advanced it meanwhile: a navigation or
+            // DOM change during the check may leave sub-waits answered for the old state
+            long checkedEpoch = pageEpoch.get();
+            CompletableFuture<Void> readiness = waitForAll(
+                    waitForDomReady(),
+                    waitForNetworkIdle(1000),
+                    waitForDomStable(500)
+            );
+            readiness.thenRun(() -> {
+                if (pageEpoch.get() == checkedEpoch) {
+                    readyEpoch = checkedEpoch;
+                }
+            });
+
+            pageReadyInFlight = readiness.exceptionally(throwable -> {
+                log.info("Page ready wait completed with errors: {}", throwable.getMessage());
+                return null;
+            });
+            return pageReadyInFlight;
+        }
+    }
+
+    // Include/exclude URL patterns, tracked contexts and max request age for NETWORK_IDLE
+    public NetworkTracker getNetworkTracker() {
+        return networkTracker;
+    }
+
+    public long getPageEpoch() {
+        return pageEpoch.get();
+    }
+
+    public long getNavigationEpoch() {
+        return navigationEpoch.get();
+    }
+
+    public long getDomEpoch() {
+        return domEpoch.get();
+    }
+
+    // This session's slice of the shared scheduler; closed with the session
+    public WaitScheduler.Session getScheduler() {
+        return scheduler;
+    }
+
+    public DomMonitoringMode getDomMonitoringMode() {
+        return domMonitoringMode;
     }
 
     // Enhanced state debugging
@@ -511,22 +861,41 @@ public class BiDiSmartWait implements AutoCloseable {
         Map<String, Object> state = new HashMap<>();
         state.put("lastDomChangeMs", System.currentTimeMillis() - lastDomChangeTime.get());
         state.put("domChangeCount", domChangeCount.get());
-        state.put("activeRequests", activeRequestCount.get());
-        state.put("pendingFutures", pendingFutures.size());
+        state.put("domMonitoringMode", domMonitoringMode);
+        state.put("activeRequests", networkTracker.getActiveRequestCount());
+        state.put("network", networkTracker.getStats());
+        state.put("pendingFutures", consoleWaiters.size() + consoleEventWaiters.size()
+                + exceptionWaiters.size() + domChangeWaiters.size());
         state.put("eventListeners", eventListeners.size());
-        state.put("caughtExceptions", caughtExceptions.size());
+        state.put("caughtExceptions", exceptionEvents.size());
+        state.put("bufferedConsoleEvents", consoleEvents.size());
         state.put("networkMonitoringEnabled", networkMonitoringEnabled);
+        state.put("pageEpoch", pageEpoch.get());
+        state.put("navigationEpoch", navigationEpoch.get());
+        state.put("domEpoch", domEpoch.get());
+        state.put("pageReadyChecks", pageReadyChecks.get());
+        state.put("pageReadyMemoHits", pageReadyMemoHits.get());
+        state.put("scheduledTasks", scheduler.getPendingTasks());
+        state.put("pendingScriptConditions", scriptPoller.getPendingCount());
+        state.put("scriptPollRoundTrips", scriptPoller.getRoundTrips());
+        state.put("scriptConditionChecks", scriptPoller.getEvaluations());
+        state.put("scheduler", WaitScheduler.shared().getMetrics());
         return state;
     }
 
     // Get caught exceptions for analysis
     public List<Map<String, Object>> getCaughtExceptions() {
-        return new ArrayList<>(caughtExceptions);
+        synchronized (caughtExceptions) {
+            return new ArrayList<>(caughtExceptions);
+        }
     }
 
     // Clear caught exceptions
     public void clearCaughtExceptions() {
-        caughtExceptions.clear();
+        exceptionEvents.clear();
+        synchronized (caughtExceptions) {
+            caughtExceptions.clear();
+        }
     }
 
     // Send custom BiDi command
@@ -549,7 +918,7 @@ public class BiDiSmartWait implements AutoCloseable {
             biDi.removeListener(listenerId);
             eventListeners.remove(listenerId);
         } catch (Exception e) {
-            System.err.println("Failed to remove event listener " + listenerId + ": " + e.getMessage());
+            log.warn("Failed to remove event listener {}: {}", listenerId, e.getMessage());
         }
     }
 
@@ -559,43 +928,30 @@ public class BiDiSmartWait implements AutoCloseable {
             return;
         }
 
-        pendingFutures.values().forEach(future -> {
-            if (!future.isDone()) {
-                future.cancel(true);
-            }
-        });
-        pendingFutures.clear();
-        consoleFilters.clear();
+        consoleWaiters.cancelAll();
+        consoleEventWaiters.cancelAll();
+        exceptionWaiters.cancelAll();
+        domChangeWaiters.cancelAll();
 
         if (domStabilityChecker != null) {
-            domStabilityChecker.cancel(false); // interruptIfRunning = false để tránh InterruptedException không cần thiết
+            domStabilityChecker.cancel();
         }
+        removeDomObserver();
+        removeScriptLibrary();
 
         eventListeners.keySet().forEach(listenerId -> {
             try {
                 biDi.removeListener(listenerId);
             } catch (Exception e) {
-                System.err.println("Failed to remove event listener " + listenerId + ": " + e.getMessage());
+                log.warn("Failed to remove event listener {}: {}", listenerId, e.getMessage());
             }
         });
         eventListeners.clear();
 
-        shutdownScheduler();
-    }
+        scriptPoller.close();
 
-    private void shutdownScheduler() {
-        scheduler.shutdown();
-        try {
-            if (!scheduler.awaitTermination(3, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-                if (!scheduler.awaitTermination(2, TimeUnit.SECONDS)) {
-                    System.err.println("Scheduler did not terminate");
-                }
-            }
-        } catch (InterruptedException ie) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        // Only this session's tasks are cancelled; the shared scheduler keeps serving other sessions
+        scheduler.close();
     }
 
     @Override
@@ -0,0 +1,29 @@
+package com.seleniumui.core.waits;
+
+import org.openqa.selenium.bidi.log.LogLevel;
+
+// Compact record of a console message or uncaught exception; receivedAt uses the local clock
+public record ConsoleEvent(long sequence, Kind kind, LogLevel level, long receivedAt, String context, String text) {
+
+    public enum Kind {
+        CONSOLE,
+        EXCEPTION
+    }
+
+    static LogLevel parseLevel(Object level) {
+        if (level == null) {
+            return LogLevel.INFO;
+        }
+        switch (String.valueOf(level)) {
+            case "debug":
+                return LogLevel.DEBUG;
+            case "warn":
+            case "warning":
+                return LogLevel.WARNING;
+            case "error":
+                return LogLevel.ERROR;
+            default:
+                return LogLevel.INFO;
+        }
+    }
+}
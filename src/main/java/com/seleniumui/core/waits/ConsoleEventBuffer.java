@@ -0,0 +1,144 @@
+package com.seleniumui.core.waits;
+
+import org.openqa.selenium.bidi.log.LogLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+// Fixed-capacity, lock-free ring buffer: writers claim a sequence and overwrite the oldest slot
+public final class ConsoleEventBuffer {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    static final int MAX_TEXT_LENGTH = 4096;
+    private static final int MAX_INTERNED_TEXTS = 4096;
+    private static final int MAX_INTERNED_TEXT_LENGTH = 256;
+
+    private final AtomicReferenceArray<ConsoleEvent> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong(0);
+    private final AtomicLong clearedBefore = new AtomicLong(0);
+
+    // Chatty apps repeat the same messages; keep one copy of each text. Emptied when full, so a page that
+    // logs ever-new texts (ids, timestamps) cannot grow it for the life of the session
+    private final Map<String, String> internedTexts = new ConcurrentHashMap<>();
+
+    public ConsoleEventBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConsoleEventBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    ConsoleEvent add(ConsoleEvent.Kind kind, LogLevel level, String context, String text) {
+        long sequence = nextSequence.getAndIncrement();
+        ConsoleEvent event = new ConsoleEvent(sequence, kind, level, System.currentTimeMillis(), context, intern(text));
+        slots.set((int) (sequence & mask), event);
+        return event;
+    }
+
+    private String intern(String text) {
+        if (text == null) {
+            return "";
+        }
+        if (text.length() > MAX_TEXT_LENGTH) {
+            return text.substring(0, MAX_TEXT_LENGTH);
+        }
+        String existing = internedTexts.get(text);
+        if (existing != null) {
+            return existing;
+        }
+        if (text.length() > MAX_INTERNED_TEXT_LENGTH) {
+            return text;
+        }
+        if (internedTexts.size() >= MAX_INTERNED_TEXTS) {
+            internedTexts.clear();
+        }
+        existing = internedTexts.putIfAbsent(text, text);
+        return existing != null ? existing : text;
+    }
+
+    // Oldest to newest; slots overwritten while reading are skipped
+    public List<ConsoleEvent> snapshot() {
+        return query(event -> true);
+    }
+
+    public List<ConsoleEvent> since(long receivedAtMs) {
+        return query(event -> event.receivedAt() >= receivedAtMs);
+    }
+
+    public List<ConsoleEvent> byLevel(LogLevel level) {
+        return query(event -> event.level() == level);
+    }
+
+    public List<ConsoleEvent> matching(Pattern pattern) {
+        return query(event -> pattern.matcher(event.text()).find());
+    }
+
+    public List<ConsoleEvent> query(Predicate<ConsoleEvent> filter) {
+        List<ConsoleEvent> result = new ArrayList<>();
+        long end = nextSequence.get();
+        for (long sequence = firstReadableSequence(end); sequence < end; sequence++) {
+            ConsoleEvent event = slots.get((int) (sequence & mask));
+            if (event != null && event.sequence() == sequence && filter.test(event)) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    public Optional<ConsoleEvent> findFirst(long sinceReceivedAtMs, Predicate<ConsoleEvent> filter) {
+        long end = nextSequence.get();
+        for (long sequence = firstReadableSequence(end); sequence < end; sequence++) {
+            ConsoleEvent event = slots.get((int) (sequence & mask));
+            if (event != null && event.sequence() == sequence
+                    && event.receivedAt() >= sinceReceivedAtMs && filter.test(event)) {
+                return Optional.of(event);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private long firstReadableSequence(long end) {
+        return Math.max(Math.max(0, end - capacity), clearedBefore.get());
+    }
+
+    public int size() {
+        long end = nextSequence.get();
+        return (int) (end - firstReadableSequence(end));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getTotalCount() {
+        return nextSequence.get();
+    }
+
+    public long getOverwrittenCount() {
+        return Math.max(0, nextSequence.get() - capacity);
+    }
+
+    public void clear() {
+        clearedBefore.set(nextSequence.get());
+        internedTexts.clear();
+    }
+}
@@ -0,0 +1,59 @@
+package com.seleniumui.core.waits;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// Waiters for one kind of BiDi event; a waiter is completed by the first event its filter accepts
+final class EventWaiters<T> {
+
+    private final Map<Long, Waiter<T>> waiters = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    CompletableFuture<T> register(Predicate<? super T> filter) {
+        long id = nextId.incrementAndGet();
+        Waiter<T> waiter = new Waiter<>(filter);
+        waiters.put(id, waiter);
+        waiter.future.whenComplete((result, error) -> waiters.remove(id));
+        return waiter.future;
+    }
+
+    boolean isEmpty() {
+        return waiters.isEmpty();
+    }
+
+    int size() {
+        return waiters.size();
+    }
+
+    void dispatch(T event) {
+        for (Waiter<T> waiter : waiters.values()) {
+            if (waiter.future.isDone()) {
+                continue;
+            }
+            try {
+                if (waiter.filter == null || waiter.filter.test(event)) {
+                    waiter.future.complete(event);
+                }
+            } catch (RuntimeException e) {
+                waiter.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    void cancelAll() {
+        waiters.values().forEach(waiter -> waiter.future.cancel(true));
+        waiters.clear();
+    }
+
+    private static final class Waiter<T> {
+        private final Predicate<? super T> filter;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Waiter(Predicate<? super T> filter) {
+            this.filter = filter;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.seleniumui.core.waits;
+
+import com.seleniumui.executors.JsExecutor;
+import com.seleniumui.executors.JsLocator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+
+// Waits for an element condition inside the page: one executeAsyncScript per slice instead of one poll per 200ms
+final class InPageWait {
+
+    // Kept well below the W3C default script timeout (30s) so the driver setting never has to change
+    static final long MAX_SLICE_MS = 5000;
+
+    private static final String AWAIT_SCRIPT =
+            "const done = arguments[arguments.length - 1];" +
+                    "const [condition, using, value, target, sliceMs] = arguments;" +
+                    JsLocator.FIND_ALL_FUNCTION +
+                    JsExecutor.VISIBLE_FUNCTION +
+                    "const evaluate = () => {" +
+                    "  const el = target || __suiFindAll(using, value, document)[0] || null;" +
+                    "  switch (condition) {" +
+                    "    case 'PRESENT': return el && el.isConnected ? el : null;" +
+                    "    case 'VISIBLE': return __suiVisible(el) ? el : null;" +
+                    "    case 'CLICKABLE': return __suiVisible(el) && !el.matches(':disabled') ? el : null;" +
+                    "    case 'INVISIBLE': return __suiVisible(el) ? null : true;" +
+                    "  }" +
+                    "  throw new Error('Unknown condition: ' + condition);" +
+                    "};" +
+                    "let finished = false;" +
+                    "let frame = null;" +
+                    "let backstop = null;" +
+                    "let observer = null;" +
+                    "const finish = (result) => {" +
+                    "  if (finished) return;" +
+                    "  finished = true;" +
+                    "  if (observer) observer.disconnect();" +
+                    "  if (frame !== null) cancelAnimationFrame(frame);" +
+                    "  clearTimeout(backstop);" +
+                    "  clearTimeout(deadline);" +
+                    "  done(result);" +
+                    "};" +
+                    "const check = () => {" +
+                    "  if (finished) return;" +
+                    "  try {" +
+                    "    const result = evaluate();" +
+                    "    if (result !== null) finish({met: true, value: result});" +
+                    "  } catch (e) {" +
+                    "    finish({error: String(e)});" +
+                    "  }" +
+                    "};" +
+                    // Mutations are checked once per frame; the backstop covers style-only changes and hidden tabs
+                    "const schedule = () => {" +
+                    "  if (frame === null && !finished) frame = requestAnimationFrame(() => { frame = null; check(); });" +
+                    "};" +
+                    "const tick = () => { check(); if (!finished) backstop = setTimeout(tick, 250); };" +
+                    "const deadline = setTimeout(() => finish({met: false}), sliceMs);" +
+                    "check();" +
+                    "if (!finished) {" +
+                    "  observer = new MutationObserver(schedule);" +
+                    "  observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+                    "  backstop = setTimeout(tick, 250);" +
+                    "}";
+
+    enum Condition {
+        VISIBLE(WaitMetrics.Condition.VISIBLE),
+        CLICKABLE(WaitMetrics.Condition.CLICKABLE),
+        INVISIBLE(WaitMetrics.Condition.INVISIBLE),
+        PRESENT(WaitMetrics.Condition.PRESENCE);
+
+        private final WaitMetrics.Condition metric;
+
+        Condition(WaitMetrics.Condition metric) {
+            this.metric = metric;
+        }
+
+        WaitMetrics.Condition metric() {
+            return metric;
+        }
+    }
+
+    enum Status {
+        MET,
+        TIMED_OUT,
+        UNAVAILABLE
+    }
+
+    record Result(Status status, Object value, long elapsedMs, int roundTrips) {
+    }
+
+    private final WebDriver driver;
+
+    InPageWait(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    static boolean supports(By locator) {
+        return JsLocator.isSupported(locator);
+    }
+
+    Result await(Condition condition, By locator, WebElement element, long timeoutMs) {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeoutMs;
+        String using = locator != null ? JsLocator.using(locator) : null;
+        String value = locator != null ? JsLocator.value(locator) : null;
+
+        int roundTrips = 0;
+
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return new Result(Status.TIMED_OUT, null, System.currentTimeMillis() - start, roundTrips);
+            }
+
+            Object response;
+            roundTrips++;
+            try {
+                response = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_SCRIPT,
+                        condition.name(), using, value, element, Math.min(remaining, MAX_SLICE_MS));
+            } catch (ScriptTimeoutException e) {
+                // Script timeout configured below the slice; let the polling engine take over
+                return new Result(Status.UNAVAILABLE, null, System.currentTimeMillis() - start, roundTrips);
+            } catch (WebDriverException e) {
+                // Navigation unloads the document mid-wait; try again in the new one
+                if (isDocumentUnloaded(e) && System.currentTimeMillis() < deadline) {
+                    continue;
+                }
+                return new Result(Status.UNAVAILABLE, null, System.currentTimeMillis() - start, roundTrips);
+            }
+
+            if (!(response instanceof Map<?, ?> result) || result.containsKey("error")) {
+                return new Result(Status.UNAVAILABLE, null, System.currentTimeMillis() - start, roundTrips);
+            }
+            if (Boolean.TRUE.equals(result.get("met"))) {
+                return new Result(Status.MET, result.get("value"), System.currentTimeMillis() - start, roundTrips);
+            }
+        }
+    }
+
+    private static boolean isDocumentUnloaded(WebDriverException e) {
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        return message.contains("unload") || message.contains("navigat") || message.contains("detached");
+    }
+}
@@ -0,0 +1,210 @@
+package com.seleniumui.core.waits;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// In-flight request table keyed by BiDi request id, used to decide NETWORK_IDLE
+public final class NetworkTracker {
+
+    public static final long DEFAULT_MAX_REQUEST_AGE_MS = 30000;
+
+    private final Map<String, InFlightRequest> inFlight = new ConcurrentHashMap<>();
+    private final List<Pattern> includePatterns = new CopyOnWriteArrayList<>();
+    private final List<Pattern> excludePatterns = new CopyOnWriteArrayList<>();
+    private final Set<String> trackedContexts = ConcurrentHashMap.newKeySet();
+    private volatile long maxRequestAgeMs = DEFAULT_MAX_REQUEST_AGE_MS;
+
+    private final AtomicLong lastActivityTime = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong startedCount = new AtomicLong(0);
+    private final AtomicLong completedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+    private final AtomicLong ignoredCount = new AtomicLong(0);
+    private final AtomicLong expiredCount = new AtomicLong(0);
+
+    public NetworkTracker() {
+        // Websockets never "complete" and would keep the page busy forever
+        excludePatterns.add(Pattern.compile("^wss?://"));
+    }
+
+    // Returns true when the request counts towards network activity
+    boolean onRequestStarted(Map<String, Object> params) {
+        Map<?, ?> request = (Map<?, ?>) params.get("request");
+        if (request == null) {
+            return false;
+        }
+        String requestId = String.valueOf(request.get("request"));
+        String url = String.valueOf(request.get("url"));
+        String context = (String) params.get("context");
+
+        if (!isTracked(url, context)) {
+            ignoredCount.incrementAndGet();
+            return false;
+        }
+        evictExpired();
+
+        // Redirects reuse the request id with a higher redirect count
+        InFlightRequest previous = inFlight.put(requestId,
+                new InFlightRequest(requestId, url, context, redirectCount(params), System.currentTimeMillis()));
+        if (previous == null) {
+            startedCount.incrementAndGet();
+        }
+        lastActivityTime.set(System.currentTimeMillis());
+        return true;
+    }
+
+    void onRequestCompleted(Map<String, Object> params) {
+        if (finish(params)) {
+            completedCount.incrementAndGet();
+        }
+    }
+
+    void onRequestFailed(Map<String, Object> params) {
+        if (finish(params)) {
+            failedCount.incrementAndGet();
+        }
+    }
+
+    private boolean finish(Map<String, Object> params) {
+        Map<?, ?> request = (Map<?, ?>) params.get("request");
+        if (request == null) {
+            return false;
+        }
+        String requestId = String.valueOf(request.get("request"));
+        int redirectCount = redirectCount(params);
+
+        // A completed redirect hop must not remove the follow-up request that already replaced it
+        boolean[] removed = {false};
+        inFlight.computeIfPresent(requestId, (id, current) -> {
+            if (current.redirectCount() > redirectCount) {
+                return current;
+            }
+            removed[0] = true;
+            return null;
+        });
+        if (removed[0]) {
+            lastActivityTime.set(System.currentTimeMillis());
+        }
+        return removed[0];
+    }
+
+    private boolean isTracked(String url, String context) {
+        if (!trackedContexts.isEmpty() && (context == null || !trackedContexts.contains(context))) {
+            return false;
+        }
+        for (Pattern pattern : excludePatterns) {
+            if (pattern.matcher(url).find()) {
+                return false;
+            }
+        }
+        if (includePatterns.isEmpty()) {
+            return true;
+        }
+        for (Pattern pattern : includePatterns) {
+            if (pattern.matcher(url).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int redirectCount(Map<String, Object> params) {
+        return params.get("redirectCount") instanceof Number count ? count.intValue() : 0;
+    }
+
+    // Requests older than the max age (long-polling, beacons) no longer count, so they cannot block idleness
+    public int getActiveRequestCount() {
+        long oldestAllowed = System.currentTimeMillis() - maxRequestAgeMs;
+        int active = 0;
+        for (InFlightRequest request : inFlight.values()) {
+            if (request.startTime() >= oldestAllowed) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    // Drops requests older than the max age from the table; runs whenever a new request starts
+    public int evictExpired() {
+        long oldestAllowed = System.currentTimeMillis() - maxRequestAgeMs;
+        int evicted = 0;
+        for (Map.Entry<String, InFlightRequest> entry : inFlight.entrySet()) {
+            if (entry.getValue().startTime() < oldestAllowed && inFlight.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        expiredCount.addAndGet(evicted);
+        return evicted;
+    }
+
+    public List<String> getActiveRequestUrls() {
+        List<String> urls = new ArrayList<>();
+        for (InFlightRequest request : inFlight.values()) {
+            urls.add(request.url());
+        }
+        return urls;
+    }
+
+    // Last time a tracked request started or finished, including requests that came and went between polls
+    public long getLastActivityTime() {
+        return lastActivityTime.get();
+    }
+
+    public NetworkTracker include(String urlRegex) {
+        includePatterns.add(Pattern.compile(urlRegex));
+        return this;
+    }
+
+    public NetworkTracker exclude(String urlRegex) {
+        excludePatterns.add(Pattern.compile(urlRegex));
+        return this;
+    }
+
+    public NetworkTracker clearFilters() {
+        includePatterns.clear();
+        excludePatterns.clear();
+        return this;
+    }
+
+    // Empty means every browsing context is tracked
+    public NetworkTracker trackContexts(Collection<String> contextIds) {
+        trackedContexts.clear();
+        trackedContexts.addAll(contextIds);
+        return this;
+    }
+
+    public NetworkTracker setMaxRequestAgeMs(long maxRequestAgeMs) {
+        if (maxRequestAgeMs <= 0) {
+            throw new IllegalArgumentException("Max request age must be greater than 0");
+        }
+        this.maxRequestAgeMs = maxRequestAgeMs;
+        return this;
+    }
+
+    public void reset() {
+        inFlight.clear();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", inFlight.size());
+        stats.put("active", getActiveRequestCount());
+        stats.put("started", startedCount.get());
+        stats.put("completed", completedCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("ignored", ignoredCount.get());
+        stats.put("expired", expiredCount.get());
+        stats.put("lastActivityMs", System.currentTimeMillis() - lastActivityTime.get());
+        return stats;
+    }
+
+    private record InFlightRequest(String id, String url, String context, int redirectCount, long startTime) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.seleniumui.core.waits;
+
+import com.seleniumui.exceptions.WaitConditionFailedException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+// Evaluates every pending JS-backed condition of one session in a single executeScript per tick
+final class ScriptPollCoordinator implements AutoCloseable {
+
+    static final long POLL_INTERVAL_MS = 100;
+
+    private final WebDriver driver;
+    private final WaitScheduler.Session scheduler;
+    private final Map<Long, PendingCondition> pending = new ConcurrentSkipListMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicInteger version = new AtomicInteger();
+    private final LongAdder roundTrips = new LongAdder();
+    private final LongAdder evaluations = new LongAdder();
+    private final Object tickLock = new Object();
+
+    // Guarded by tickLock
+    private WaitScheduler.Task tickTask;
+
+    // Only touched from the tick, which never runs concurrently with itself
+    private int scriptVersion = -1;
+    private List<PendingCondition> batch = Collections.emptyList();
+    private String batchScript;
+
+    ScriptPollCoordinator(WebDriver driver, WaitScheduler.Session scheduler) {
+        this.driver = driver;
+        this.scheduler = scheduler;
+    }
+
+    CompletableFuture<Void> register(String expression, Predicate<Object> accept, String description,
+                                     long timeout, TimeUnit unit, WaitMetrics.Condition metric) {
+        long id = nextId.incrementAndGet();
+        long metricsStart = metric != null ? WaitMetrics.start() : 0;
+        PendingCondition condition = new PendingCondition(expression, accept, description,
+                System.currentTimeMillis(), unit.toMillis(timeout));
+
+        pending.put(id, condition);
+        version.incrementAndGet();
+        condition.future.whenComplete((result, error) -> {
+            pending.remove(id);
+            version.incrementAndGet();
+            WaitMetrics.record(metric, null, metricsStart, error instanceof TimeoutException, condition.checks);
+        });
+
+        synchronized (tickLock) {
+            if (tickTask == null) {
+                tickTask = scheduler.scheduleAtFixedRate(this::tick, 0, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+        return condition.future;
+    }
+
+    private void tick() {
+        synchronized (tickLock) {
+            if (pending.isEmpty()) {
+                if (tickTask != null) {
+                    tickTask.cancel();
+                    tickTask = null;
+                }
+                return;
+            }
+        }
+
+        int currentVersion = version.get();
+        if (currentVersion != scriptVersion) {
+            batch = new ArrayList<>(pending.values());
+            batchScript = buildScript(batch);
+            scriptVersion = currentVersion;
+        }
+
+        List<?> results = evaluate(batchScript);
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingCondition condition = batch.get(i);
+            if (condition.future.isDone()) {
+                continue;
+            }
+            Object result = results != null && i < results.size() ? results.get(i) : null;
+            condition.checks++;
+            evaluations.increment();
+            try {
+                if (condition.accept.test(result)) {
+                    condition.future.complete(null);
+                } else if (now - condition.startTime > condition.timeoutMs) {
+                    condition.future.completeExceptionally(
+                            new TimeoutException("Condition not met within " + condition.timeoutMs + "ms: " +
+                                    condition.description + " (checked " + condition.checks + " times)"));
+                }
+            } catch (Exception e) {
+                condition.future.completeExceptionally(
+                        new WaitConditionFailedException("Condition check failed: " + e.getMessage(), e));
+            }
+        }
+    }
+
+    private List<?> evaluate(String script) {
+        try {
+            roundTrips.increment();
+            Object result = ((JavascriptExecutor) driver).executeScript(script);
+            return result instanceof List<?> list ? list : null;
+        } catch (Exception e) {
+            // Page may be navigating; every condition counts as not met for this tick
+            return null;
+        }
+    }
+
+    private static String buildScript(List<PendingCondition> conditions) {
+        StringBuilder script = new StringBuilder("const results = [];");
+        for (PendingCondition condition : conditions) {
+            script.append("try { results.push((() => { return ").append(condition.expression)
+                    .append("; })()); } catch (e) { results.push(null); }");
+        }
+        return script.append("return results;").toString();
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    long getRoundTrips() {
+        return roundTrips.sum();
+    }
+
+    long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    @Override
+    public void close() {
+        synchronized (tickLock) {
+            if (tickTask != null) {
+                tickTask.cancel();
+                tickTask = null;
+            }
+        }
+        pending.values().forEach(condition -> condition.future.cancel(true));
+        pending.clear();
+    }
+
+    private static final class PendingCondition {
+        private final String expression;
+        private final Predicate<Object> accept;
+        private final String description;
+        private final long startTime;
+        private final long timeoutMs;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile int checks;
+
+        private PendingCondition(String expression, Predicate<Object> accept, String description,
+                                 long startTime, long timeoutMs) {
+            this.expression = expression;
+            this.accept = accept;
+            this.description = description;
+            this.startTime = startTime;
+            this.timeoutMs = timeoutMs;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.seleniumui.core.waits;
 
+import com.seleniumui.core.ElementCache;
+import com.seleniumui.core.IndexedBy;
+import com.seleniumui.executors.RetryScheduler;
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.bidi.BiDi;
 import org.openqa.selenium.bidi.HasBiDi;
@@ -14,10 +19,20 @@ import java.util.function.Function;
 
 public final class SmartWait implements AutoCloseable{
 
+    private static final Logger LOG = Log.getLogger(SmartWait.class);
+
     private final WebDriver driver;
     private final BiDiSmartWait biDiSmartWait;
     private final long defaultTimeoutMs;
     private final long defaultPollIntervalMs;
+    private final InPageWait inPageWait;
+    private final ElementCache elementCache;
+    private volatile WaitEngine waitEngine = WaitEngine.IN_PAGE;
+
+    public enum WaitEngine {
+        POLLING,
+        IN_PAGE
+    }
 
     public SmartWait(WebDriver driver) {
         this(driver, DEFAULT_AJAX_TIMEOUT_MS, DEFAULT_POLL_INTERVAL_MS);
@@ -27,10 +42,14 @@ public final class SmartWait implements AutoCloseable{
         this.driver = Objects.requireNonNull(driver, "WebDriver cannot be null");
         this.defaultTimeoutMs = defaultTimeoutMs;
         this.defaultPollIntervalMs = defaultPollIntervalMs;
+        this.inPageWait = new InPageWait(driver);
 
         // Initialize BiDiSmartWait
         BiDi biDi = ((HasBiDi) driver).getBiDi();
         this.biDiSmartWait = new BiDiSmartWait(driver, biDi, 30);
+        // A client-side re-render can leave a handle attached but no longer matching its locator, so the
+        // DOM epoch (navigation or mutations) is what bounds a cached handle, not just navigation
+        this.elementCache = new ElementCache(biDiSmartWait::getDomEpoch);
     }
 
     // Constants
@@ -98,32 +117,129 @@ public final class SmartWait implements AutoCloseable{
 
     public WebElement forVisible(By locator) {
         Objects.requireNonNull(locator, "Locator cannot be null");
-        return until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return cache(locator, await(InPageWait.Condition.VISIBLE, locator, null,
+                ExpectedConditions.visibilityOfElementLocated(locator)));
     }
 
     public WebElement forVisible(WebElement element) {
         Objects.requireNonNull(element, "Element cannot be null");
-        return until(ExpectedConditions.visibilityOf(element));
+        return (WebElement) await(InPageWait.Condition.VISIBLE, null, element,
+                ExpectedConditions.visibilityOf(element));
     }
 
     public WebElement forClickable(By locator) {
         Objects.requireNonNull(locator, "Locator cannot be null");
-        return until(ExpectedConditions.elementToBeClickable(locator));
+        return cache(locator, await(InPageWait.Condition.CLICKABLE, locator, null,
+                ExpectedConditions.elementToBeClickable(locator)));
     }
 
     public WebElement forClickable(WebElement element) {
         Objects.requireNonNull(element, "Element cannot be null");
-        return until(ExpectedConditions.elementToBeClickable(element));
+        return (WebElement) await(InPageWait.Condition.CLICKABLE, null, element,
+                ExpectedConditions.elementToBeClickable(element));
     }
 
     public void forInvisible(By locator) {
         Objects.requireNonNull(locator, "Locator cannot be null");
-        until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        await(InPageWait.Condition.INVISIBLE, locator, null,
+                ExpectedConditions.invisibilityOfElementLocated(locator));
+        elementCache.invalidate(locator);
     }
 
     public void forPresence(By locator) {
         Objects.requireNonNull(locator, "Locator cannot be null");
-        until(ExpectedConditions.presenceOfElementLocated(locator));
+        cache(locator, await(InPageWait.Condition.PRESENT, locator, null,
+                ExpectedConditions.presenceOfElementLocated(locator)));
+    }
+
+    // The element a wait resolved is handed to the action that follows instead of being looked up again
+    private WebElement cache(By locator, Object result) {
+        WebElement element = (WebElement) result;
+        elementCache.put(locator, element);
+        return element;
+    }
+
+    // In-page engine first; FluentWait polling covers unsupported locators and pages where the script cannot run
+    private Object await(InPageWait.Condition condition, By locator, WebElement element,
+                         Function<? super WebDriver, ?> fallback) {
+        long metricsStart = WaitMetrics.start();
+        long polls = 0;
+        boolean timedOut = false;
+        long timeoutMs = defaultTimeoutMs;
+
+        try {
+            // ComponentList items wait on the handle the list resolved; a stale one drops to polling
+            if (element == null && locator instanceof IndexedBy) {
+                element = elementCache.get(locator);
+            }
+            if (waitEngine == WaitEngine.IN_PAGE && (element != null || InPageWait.supports(locator))) {
+                biDiSmartWait.waitForPageReady();
+                InPageWait.Result result = inPageWait.await(condition, element != null ? null : locator, element,
+                        timeoutMs);
+                polls += result.roundTrips();
+
+                switch (result.status()) {
+                    case MET:
+                        return result.value();
+                    case TIMED_OUT:
+                        throw new TimeoutException("Timed out after " + timeoutMs + "ms waiting for: " + fallback);
+                    default:
+                        timeoutMs = Math.max(defaultPollIntervalMs, timeoutMs - result.elapsedMs());
+                }
+            }
+
+            if (metricsStart == 0) {
+                return until(fallback, timeoutMs);
+            }
+            PollCounter counter = new PollCounter(fallback);
+            try {
+                return until(counter, timeoutMs);
+            } finally {
+                polls += counter.polls;
+            }
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            WaitMetrics.record(condition.metric(), locator, metricsStart, timedOut, polls);
+        }
+    }
+
+    private static final class PollCounter implements Function<WebDriver, Object> {
+        private final Function<? super WebDriver, ?> delegate;
+        private int polls;
+
+        private PollCounter(Function<? super WebDriver, ?> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object apply(WebDriver driver) {
+            polls++;
+            return delegate.apply(driver);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    // Async actions of this session run their attempts here, next to its waits
+    public RetryScheduler getRetryScheduler() {
+        return biDiSmartWait.getScheduler();
+    }
+
+    public void setWaitEngine(WaitEngine waitEngine) {
+        this.waitEngine = Objects.requireNonNull(waitEngine, "Wait engine cannot be null");
+    }
+
+    public WaitEngine getWaitEngine() {
+        return waitEngine;
     }
 
     // Getter methods for configuration (optional)
@@ -141,7 +257,7 @@ public final class SmartWait implements AutoCloseable{
             try {
                 closeable.close();
             } catch (Exception e) {
-                System.out.println("Warning: Error during BiDiSmartWait cleanup: " + e.getMessage());
+                LOG.warn("Error during BiDiSmartWait cleanup: {}", e.getMessage());
             }
         }
     }
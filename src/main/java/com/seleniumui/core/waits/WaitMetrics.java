@@ -0,0 +1,117 @@
+package com.seleniumui.core.waits;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide wait latency metrics per condition type and per locator.
+// Disabled by default (-Dseleniumui.wait.metrics=true or enable()); when disabled recording is a single volatile read.
+public final class WaitMetrics {
+
+    public enum Condition {
+        VISIBLE,
+        CLICKABLE,
+        INVISIBLE,
+        PRESENCE,
+        DOM_READY,
+        NETWORK_IDLE,
+        DOM_STABLE
+    }
+
+    private static volatile boolean enabled = Boolean.getBoolean("seleniumui.wait.metrics");
+
+    private static final Map<Condition, Stats> BY_CONDITION = new EnumMap<>(Condition.class);
+    private static final Map<Object, Stats> BY_LOCATOR = new ConcurrentHashMap<>();
+
+    static {
+        for (Condition condition : Condition.values()) {
+            BY_CONDITION.put(condition, new Stats());
+        }
+    }
+
+    private WaitMetrics() {}
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void reset() {
+        BY_CONDITION.replaceAll((condition, stats) -> new Stats());
+        BY_LOCATOR.clear();
+    }
+
+    // Returns 0 when disabled; pass the value back to record()
+    static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    static void record(Condition condition, Object locator, long startNanos, boolean timedOut, long polls) {
+        if (startNanos == 0 || !enabled) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        BY_CONDITION.get(condition).record(micros, timedOut, polls);
+        if (locator != null) {
+            BY_LOCATOR.computeIfAbsent(locator, key -> new Stats()).record(micros, timedOut, polls);
+        }
+    }
+
+    public static Snapshot snapshot() {
+        List<Entry> conditions = new ArrayList<>();
+        BY_CONDITION.forEach((condition, stats) -> {
+            if (stats.histogram.getCount() > 0) {
+                conditions.add(stats.toEntry(condition.name()));
+            }
+        });
+
+        List<Entry> locators = new ArrayList<>();
+        BY_LOCATOR.forEach((locator, stats) -> locators.add(stats.toEntry(String.valueOf(locator))));
+        // Locators that cost the most wall clock first
+        locators.sort(Comparator.comparingDouble(Entry::totalMs).reversed());
+
+        return new Snapshot(List.copyOf(conditions), List.copyOf(locators));
+    }
+
+    public record Snapshot(List<Entry> conditions, List<Entry> locators) {
+    }
+
+    public record Entry(String name, long count, long timeouts, double timeoutRate, long polls,
+                        double totalMs, double meanMs, double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+    }
+
+    private static final class Stats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+
+        private void record(long micros, boolean timedOut, long pollCount) {
+            histogram.record(micros);
+            polls.add(pollCount);
+            if (timedOut) {
+                timeouts.increment();
+            }
+        }
+
+        private Entry toEntry(String name) {
+            long count = histogram.getCount();
+            long timeoutCount = timeouts.sum();
+            return new Entry(name, count, timeoutCount, count == 0 ? 0 : timeoutCount / (double) count, polls.sum(),
+                    histogram.getTotalMicros() / 1000.0, histogram.getMeanMicros() / 1000.0,
+                    histogram.getPercentileMicros(50) / 1000.0, histogram.getPercentileMicros(90) / 1000.0,
+                    histogram.getPercentileMicros(99) / 1000.0, histogram.getMaxMicros() / 1000.0);
+        }
+    }
+}
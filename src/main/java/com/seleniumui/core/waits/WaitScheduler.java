@@ -0,0 +1,281 @@
+package com.seleniumui.core.waits;
+
+import com.seleniumui.executors.RetryScheduler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide scheduler shared by every wait in every session. A single timer thread only keeps
+// deadlines; the work itself (usually a blocking WebDriver round trip) runs on worker threads that time out
+// when idle. Each session runs at most seleniumui.wait.sessionWorkers tasks at once and queues the rest on
+// its own backlog, so a slow browser only delays its own waits and never holds workers other sessions need.
+public final class WaitScheduler {
+
+    private static final int DEFAULT_SESSION_WORKERS = 2;
+    private static final WaitScheduler SHARED = new WaitScheduler("smartwait",
+            Integer.getInteger("seleniumui.wait.sessionWorkers", DEFAULT_SESSION_WORKERS));
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final ThreadPoolExecutor workers;
+    private final int sessionWorkers;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+
+    // Tick lag: how late a task started compared to its deadline
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder totalTickLagNanos = new LongAdder();
+    private final AtomicLong maxTickLagNanos = new AtomicLong();
+    private final LongAdder skippedTicks = new LongAdder();
+
+    WaitScheduler(String name, int sessionWorkers) {
+        if (sessionWorkers <= 0) {
+            throw new IllegalArgumentException("Session workers must be greater than 0");
+        }
+        this.sessionWorkers = sessionWorkers;
+        this.timer = new ScheduledThreadPoolExecutor(1, daemonThreadFactory(name + "-timer"));
+        this.timer.setRemoveOnCancelPolicy(true);
+        // Unbounded hand-off pool: the per-session limit is what bounds it, at sessions x sessionWorkers threads
+        this.workers = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 30, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemonThreadFactory(name + "-worker"));
+    }
+
+    public static WaitScheduler shared() {
+        return SHARED;
+    }
+
+    public Session openSession(String name) {
+        Session session = new Session(name);
+        sessions.add(session);
+        return session;
+    }
+
+    public int getQueueDepth() {
+        return timer.getQueue().size() + getQueuedWork();
+    }
+
+    // Work whose deadline has passed but that waits for a free slot of its session
+    public int getQueuedWork() {
+        return sessions.stream().mapToInt(Session::getQueuedWork).sum();
+    }
+
+    public double getAverageTickLagMs() {
+        long count = ticks.sum();
+        return count == 0 ? 0 : totalTickLagNanos.sum() / (double) count / 1_000_000;
+    }
+
+    public long getMaxTickLagMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxTickLagNanos.get());
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("sessions", sessions.size());
+        metrics.put("scheduledTasks", timer.getQueue().size());
+        metrics.put("queuedWork", getQueuedWork());
+        metrics.put("queueDepth", getQueueDepth());
+        metrics.put("activeWorkers", workers.getActiveCount());
+        metrics.put("workerThreads", workers.getPoolSize());
+        metrics.put("sessionWorkers", sessionWorkers);
+        metrics.put("ticks", ticks.sum());
+        metrics.put("skippedTicks", skippedTicks.sum());
+        metrics.put("averageTickLagMs", getAverageTickLagMs());
+        metrics.put("maxTickLagMs", getMaxTickLagMs());
+        return metrics;
+    }
+
+    private void recordLag(long expectedNanos) {
+        long lag = Math.max(0, System.nanoTime() - expectedNanos);
+        ticks.increment();
+        totalTickLagNanos.add(lag);
+        maxTickLagNanos.accumulateAndGet(lag, Math::max);
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Per-session view: closing it cancels the session's tasks without touching other sessions
+    public final class Session implements RetryScheduler, AutoCloseable {
+        private final String name;
+        private final Set<Task> tasks = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final Queue<Runnable> backlog = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger running = new AtomicInteger();
+
+        private Session(String name) {
+            this.name = name;
+        }
+
+        public Task schedule(Runnable action, long delay, TimeUnit unit) {
+            return submit(action, unit.toNanos(delay), 0);
+        }
+
+        @Override
+        public Task schedule(Runnable action, long delayMs) {
+            return schedule(action, delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        public Task scheduleAtFixedRate(Runnable action, long initialDelay, long period, TimeUnit unit) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("Period must be greater than 0");
+            }
+            return submit(action, unit.toNanos(initialDelay), unit.toNanos(period));
+        }
+
+        private Task submit(Runnable action, long delayNanos, long periodNanos) {
+            if (closed.get()) {
+                throw new RejectedExecutionException("Wait scheduler session '" + name + "' is closed");
+            }
+            Task task = new Task(this, action, System.nanoTime() + delayNanos, periodNanos);
+            tasks.add(task);
+            task.timerFuture = periodNanos > 0
+                    ? timer.scheduleAtFixedRate(task::fire, delayNanos, periodNanos, TimeUnit.NANOSECONDS)
+                    : timer.schedule(task::fire, delayNanos, TimeUnit.NANOSECONDS);
+            if (closed.get() || task.cancelled) {
+                task.cancel();
+            }
+            return task;
+        }
+
+        // Runs on a worker as soon as the session has a free slot
+        private void dispatch(Runnable work) {
+            backlog.add(work);
+            drain();
+        }
+
+        private void drain() {
+            while (!backlog.isEmpty()) {
+                int current = running.get();
+                if (current >= sessionWorkers) {
+                    // The run holding the slot drains again when it finishes
+                    return;
+                }
+                if (!running.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                Runnable work = backlog.poll();
+                if (work == null) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                workers.execute(() -> {
+                    try {
+                        work.run();
+                    } finally {
+                        running.decrementAndGet();
+                        drain();
+                    }
+                });
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPendingTasks() {
+            return tasks.size();
+        }
+
+        public int getQueuedWork() {
+            return backlog.size();
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            tasks.forEach(Task::cancel);
+            tasks.clear();
+            backlog.clear();
+            sessions.remove(this);
+        }
+    }
+
+    public final class Task implements RetryScheduler.Cancellable {
+        private final Session session;
+        private final Runnable action;
+        private final long firstDeadlineNanos;
+        private final long periodNanos;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private final AtomicLong firings = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile ScheduledFuture<?> timerFuture;
+
+        private Task(Session session, Runnable action, long firstDeadlineNanos, long periodNanos) {
+            this.session = session;
+            this.action = action;
+            this.firstDeadlineNanos = firstDeadlineNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        private void fire() {
+            long expectedNanos = firstDeadlineNanos + firings.getAndIncrement() * periodNanos;
+            if (cancelled) {
+                return;
+            }
+            // A slow round trip must not pile up ticks of the same task
+            if (!running.compareAndSet(false, true)) {
+                skippedTicks.increment();
+                return;
+            }
+            try {
+                session.dispatch(() -> run(expectedNanos));
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+            }
+        }
+
+        private void run(long expectedNanos) {
+            try {
+                if (!cancelled) {
+                    recordLag(expectedNanos);
+                    action.run();
+                }
+            } finally {
+                running.set(false);
+                if (periodNanos == 0) {
+                    session.tasks.remove(this);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> future = timerFuture;
+            if (future != null) {
+                future.cancel(false);
+            }
+            session.tasks.remove(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.seleniumui.exceptions;
+
+public class CircuitOpenException extends RuntimeException {
+
+    private final long retryAfterMs;
+
+    public CircuitOpenException(String message, long retryAfterMs) {
+        super(message);
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public CircuitOpenException(String message, long retryAfterMs, Throwable cause) {
+        super(message, cause);
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+}
@@ -0,0 +1,127 @@
+package com.seleniumui.executors;
+
+import com.seleniumui.exceptions.CircuitOpenException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.openqa.selenium.remote.http.ConnectionFailedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Trips after N consecutive transport failures and rejects calls until the cooldown has passed;
+// then lets one probe through (HALF_OPEN) and closes again if it reaches the browser
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long cooldownMs;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+    private long trips;
+    private long rejected;
+
+    public CircuitBreaker(String name, int failureThreshold, long cooldownMs) {
+        if (failureThreshold <= 0 || cooldownMs <= 0) {
+            throw new IllegalArgumentException("Circuit breaker needs a positive threshold and cooldown");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.cooldownMs = cooldownMs;
+    }
+
+    public synchronized void beforeCall() {
+        if (state == State.OPEN) {
+            long remaining = openedAt + cooldownMs - System.currentTimeMillis();
+            if (remaining > 0) {
+                rejected++;
+                throw new CircuitOpenException("Circuit '" + name + "' is open after " + consecutiveFailures +
+                        " consecutive transport failures; retry after " + remaining + "ms", remaining);
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejected++;
+                throw new CircuitOpenException("Circuit '" + name + "' is half-open and already probing", cooldownMs);
+            }
+            probeInFlight = true;
+        }
+    }
+
+    synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    // Only transport failures count; any other error means the browser answered
+    public synchronized void onFailure(Throwable error) {
+        if (!isTransportFailure(error)) {
+            onSuccess();
+            return;
+        }
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                trips++;
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public static boolean isTransportFailure(Throwable error) {
+        Throwable cause = error;
+        // Depth limit guards against cyclic cause chains
+        for (int depth = 0; cause != null && depth < 10; depth++, cause = cause.getCause()) {
+            if (cause instanceof UnreachableBrowserException
+                    || cause instanceof ConnectionFailedException
+                    || cause instanceof IOException
+                    || cause instanceof UncheckedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= cooldownMs) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized long getRetryAfterMs() {
+        return state == State.OPEN ? Math.max(0, openedAt + cooldownMs - System.currentTimeMillis()) : 0;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public synchronized long getTrips() {
+        return trips;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -1,28 +1,115 @@
 package com.seleniumui.executors;
 
+import com.seleniumui.exceptions.ElementInteractionException;
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.Map;
+
 public class JsExecutor {
 
+    private static final Logger LOG = Log.getLogger(JsExecutor.class);
+
+    // Longest __sui.scroll waits for a smooth scroll to stop moving before it reports where the element ended up
+    static final long SCROLL_SETTLE_TIMEOUT_MS = 1000;
+
+    // Reason returned by __suiSetValue for elements only real keystrokes can fill (file inputs)
+    public static final String NEEDS_KEYSTROKES = "needs keystrokes";
+
+    // Declares __suiSetValue(el, value) -> null on success, otherwise the reason it failed.
+    // Goes through the prototype's native setter so framework-controlled inputs (React, Vue) see the change,
+    // then fires input, change and blur like a user edit would.
+    public static final String SET_VALUE_FUNCTION =
+            "const __suiSetValue = (el, value) => {" +
+                    "  if (!el || !el.isConnected) return 'element not found';" +
+                    "  if (el.disabled) return 'element is disabled';" +
+                    "  if (el.readOnly) return 'element is read-only';" +
+                    "  const tag = el.tagName;" +
+                    "  if (tag === 'INPUT' && el.type === 'file') return '" + NEEDS_KEYSTROKES + "';" +
+                    "  if (tag === 'INPUT' && (el.type === 'checkbox' || el.type === 'radio')) {" +
+                    "    const wanted = /^(true|on|checked|yes|1)$/i.test(String(value));" +
+                    "    if (el.checked !== wanted) el.click();" +
+                    "    return el.checked === wanted ? null : 'checked state rejected';" +
+                    "  }" +
+                    "  const blur = () => {" +
+                    "    if (document.activeElement === el) el.blur();" +
+                    "    else el.dispatchEvent(new FocusEvent('blur'));" +
+                    "  };" +
+                    "  el.focus();" +
+                    "  if (el.isContentEditable) {" +
+                    "    el.textContent = value;" +
+                    "    el.dispatchEvent(new InputEvent('input', {bubbles: true}));" +
+                    "    blur();" +
+                    "    return null;" +
+                    "  }" +
+                    "  const proto = tag === 'INPUT' ? HTMLInputElement.prototype" +
+                    "      : tag === 'TEXTAREA' ? HTMLTextAreaElement.prototype" +
+                    "      : tag === 'SELECT' ? HTMLSelectElement.prototype : null;" +
+                    "  if (!proto) return 'cannot set a value on <' + tag.toLowerCase() + '>';" +
+                    "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+                    "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+                    "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+                    "  blur();" +
+                    "  return el.value === String(value) ? null : 'value rejected, element holds \"' + el.value + '\"';" +
+                    "};";
+
+    // Declares __suiVisible(el) -> whether the element is rendered, close to WebElement.isDisplayed
+    public static final String VISIBLE_FUNCTION =
+            "const __suiVisible = (el) => {" +
+                    "  if (!el || !el.isConnected) return false;" +
+                    "  if (el.tagName === 'OPTION' || el.tagName === 'OPTGROUP') {" +
+                    "    const select = el.closest('select');" +
+                    "    return !!select && __suiVisible(select);" +
+                    "  }" +
+                    "  if (typeof el.checkVisibility === 'function' &&" +
+                    "      !el.checkVisibility({opacityProperty: true, visibilityProperty: true})) return false;" +
+                    "  const style = window.getComputedStyle(el);" +
+                    "  if (style.display === 'none' || style.visibility !== 'visible' || parseFloat(style.opacity) === 0) return false;" +
+                    "  const rect = el.getBoundingClientRect();" +
+                    "  if (rect.width > 0 && rect.height > 0) return true;" +
+                    "  return Array.from(el.children).some(child => {" +
+                    "    const childRect = child.getBoundingClientRect();" +
+                    "    return childRect.width > 0 && childRect.height > 0;" +
+                    "  });" +
+                    "};";
+
     private JsExecutor() {}
 
-    public static void scrollToElement(WebDriver driver, By locator) {
-        if (!isElementInViewport(driver, locator) || isCoveredByAnotherElement(driver, locator)) {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'auto', block: 'center', inline: 'center'});", driver.findElement(locator));
-            System.out.println("Scrolled to element: " + locator.toString());
+    // The scripts themselves live in ScriptLibrary; each call sends only a function name and its arguments
+
+    public static ScrollResult scrollToElement(WebDriver driver, By locator) {
+        if (JsLocator.isSupported(locator)) {
+            return scroll(driver, null, JsLocator.using(locator), JsLocator.value(locator), locator.toString());
         }
+        return scrollToElement(driver, driver.findElement(locator));
     }
 
-    public static void scrollToElement(WebDriver driver, WebElement element) {
-        if (!isElementInViewport(driver, element) || isCoveredByAnotherElement(driver, element)) {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'auto', block: 'center', inline: 'center'});", element);
-            System.out.println("Scrolled to element.");
+    public static ScrollResult scrollToElement(WebDriver driver, WebElement element) {
+        return scroll(driver, element, null, null, "element");
+    }
+
+    private static ScrollResult scroll(WebDriver driver, WebElement element, String using, String value,
+                                       String description) {
+        Object response = ScriptLibrary.callAsync(driver, "scroll", element, using, value, SCROLL_SETTLE_TIMEOUT_MS);
+        if (!(response instanceof Map<?, ?> result)) {
+            throw new ElementInteractionException("Unexpected scroll result for " + description + ": " + response);
+        }
+        if ("stale".equals(result.get("error"))) {
+            throw new StaleElementReferenceException("Element is no longer attached to the DOM");
         }
+        if ("missing".equals(result.get("error"))) {
+            throw new NoSuchElementException("Unable to locate element: " + description);
+        }
+        return new ScrollResult(
+                Boolean.TRUE.equals(result.get("scrolled")),
+                Boolean.TRUE.equals(result.get("inViewport")),
+                Boolean.TRUE.equals(result.get("covered")),
+                (String) result.get("occludedBy"));
     }
 
     public static boolean isElementInViewport(WebDriver driver, By locator) {
@@ -30,19 +117,7 @@ public class JsExecutor {
     }
 
     public static boolean isElementInViewport(WebDriver driver, WebElement element) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        boolean isInViewport = (Boolean) js.executeScript(
-                "const rect = arguments[0].getBoundingClientRect();" +
-                        "return (" +
-                        "rect.top >= 0 && " +
-                        "rect.left >= 0 && " +
-                        "rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) && " +
-                        "rect.right <= (window.innerWidth || document.documentElement.clientWidth)" +
-                        ");",
-                element
-        );
-        System.out.println("Element is in viewport: " + isInViewport);
-        return isInViewport;
+        return Boolean.TRUE.equals(ScriptLibrary.call(driver, "inViewport", element));
     }
 
     public static boolean isCoveredByAnotherElement(WebDriver driver, By locator) {
@@ -50,56 +125,32 @@ public class JsExecutor {
     }
 
     public static boolean isCoveredByAnotherElement(WebDriver driver, WebElement element) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        boolean isCovered = (Boolean) js.executeScript(
-                "const elem = arguments[0];" +
-                        "const rect = elem.getBoundingClientRect();" +
-                        "const cx = rect.left + rect.width / 2;" +
-                        "const cy = rect.top + rect.height / 2;" +
-                        "const topElem = document.elementFromPoint(cx, cy);" +
-                        "return !(elem === topElem || elem.contains(topElem));",
-                element
-        );
-        System.out.println("Element is covered by another element: " + isCovered);
-        return isCovered;
+        return Boolean.TRUE.equals(ScriptLibrary.call(driver, "covered", element));
     }
 
     public static boolean isGlobalOverlayPresent(WebDriver driver) {
-        String script = """
-            const cx = window.innerWidth / 2;
-            const cy = window.innerHeight / 2;
-            const topElem = document.elementFromPoint(cx, cy);
-            if (!topElem) return false;
-
-            const overlayLike = /(overlay|modal|popup|backdrop|loading|spinner)/i.test(topElem.className);
-            if (overlayLike) return true;
-
-            const rect = topElem.getBoundingClientRect();
-            const style = window.getComputedStyle(topElem);
-            const coversScreen = rect.top <= 1 && rect.left <= 1 &&
-                                 rect.bottom >= window.innerHeight - 1 &&
-                                 rect.right >= window.innerWidth - 1;
-
-            const blocksClick = style.pointerEvents !== 'none' && style.opacity > 0.1;
-
-            const overflowHidden = document.body.style.overflow === 'hidden' ||
-                                   document.documentElement.style.overflow === 'hidden';
-
-            return (coversScreen && blocksClick) || overlayLike || overflowHidden;
-        """;
-        boolean isPresent = (Boolean) ((JavascriptExecutor) driver).executeScript(script);
-        System.out.println("Global overlay present: " + isPresent);
+        boolean isPresent = Boolean.TRUE.equals(ScriptLibrary.call(driver, "overlay"));
+        LOG.debug("Global overlay present: {}", isPresent);
         return isPresent;
     }
 
     public static void jsClick(WebDriver driver, By locator) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        js.executeScript("arguments[0].click();", driver.findElement(locator));
+        ScriptLibrary.call(driver, "click", driver.findElement(locator));
     }
 
     public static void focusElement(WebDriver driver, By locator) {
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        js.executeScript("arguments[0].focus();", driver.findElement(locator));
+        ScriptLibrary.call(driver, "focus", driver.findElement(locator));
+    }
+
+    public static void setValue(WebDriver driver, WebElement element, String value) {
+        setValue(driver, element, value, false);
     }
 
+    // append=true keeps the current value in front, like sendKeys with the caret at the end
+    public static void setValue(WebDriver driver, WebElement element, String value, boolean append) {
+        Object failure = ScriptLibrary.call(driver, "setValue", element, value, append);
+        if (failure != null) {
+            throw new ElementInteractionException("Could not set value: " + failure);
+        }
+    }
 }
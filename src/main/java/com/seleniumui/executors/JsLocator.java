@@ -0,0 +1,61 @@
+package com.seleniumui.executors;
+
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Translates standard Selenium locators into an in-page lookup so scripts can resolve elements themselves
+public final class JsLocator {
+
+    private static final List<String> SUPPORTED_STRATEGIES = Arrays.asList(
+            "id", "css selector", "xpath", "class name", "name", "tag name", "link text", "partial link text");
+
+    // Declares __suiFindAll(using, value, root) -> Element[]
+    public static final String FIND_ALL_FUNCTION =
+            "const __suiFindAll = (using, value, root) => {" +
+                    "  root = root || document;" +
+                    "  switch (using) {" +
+                    "    case 'id': return Array.from(root.querySelectorAll('#' + CSS.escape(value)));" +
+                    "    case 'css selector': return Array.from(root.querySelectorAll(value));" +
+                    "    case 'class name': return Array.from(root.getElementsByClassName(value));" +
+                    "    case 'name': return Array.from(root.querySelectorAll('[name=\"' + CSS.escape(value) + '\"]'));" +
+                    "    case 'tag name': return Array.from(root.getElementsByTagName(value));" +
+                    "    case 'link text': return Array.from(root.querySelectorAll('a')).filter(a => a.innerText.trim() === value);" +
+                    "    case 'partial link text': return Array.from(root.querySelectorAll('a')).filter(a => a.innerText.includes(value));" +
+                    "    case 'xpath': {" +
+                    "      const snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+                    "      const found = [];" +
+                    "      for (let i = 0; i < snapshot.snapshotLength; i++) {" +
+                    "        const node = snapshot.snapshotItem(i);" +
+                    "        if (node.nodeType === Node.ELEMENT_NODE) found.push(node);" +
+                    "      }" +
+                    "      return found;" +
+                    "    }" +
+                    "    default: throw new Error('Unsupported locator strategy: ' + using);" +
+                    "  }" +
+                    "};";
+
+    private JsLocator() {}
+
+    public static boolean isSupported(By locator) {
+        return locator instanceof By.Remotable remotable
+                && SUPPORTED_STRATEGIES.contains(remotable.getRemoteParameters().using())
+                && remotable.getRemoteParameters().value() instanceof String;
+    }
+
+    public static String using(By locator) {
+        return parameters(locator).using();
+    }
+
+    public static String value(By locator) {
+        return (String) parameters(locator).value();
+    }
+
+    private static By.Remotable.Parameters parameters(By locator) {
+        if (!isSupported(locator)) {
+            throw new IllegalArgumentException("Locator cannot be resolved in page: " + locator);
+        }
+        return ((By.Remotable) locator).getRemoteParameters();
+    }
+}
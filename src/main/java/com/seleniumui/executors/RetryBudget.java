@@ -0,0 +1,72 @@
+package com.seleniumui.executors;
+
+// Token bucket of retries: at most `capacity` retries in a burst, refilled at capacity per window
+public final class RetryBudget {
+
+    private final int capacity;
+    private final long windowMs;
+
+    // Guarded by this
+    private double tokens;
+    private long lastRefillTime;
+    private long granted;
+    private long denied;
+
+    public RetryBudget(int capacity, long windowMs) {
+        if (capacity <= 0 || windowMs <= 0) {
+            throw new IllegalArgumentException("Retry budget needs a positive capacity and window");
+        }
+        this.capacity = capacity;
+        this.windowMs = windowMs;
+        this.tokens = capacity;
+        this.lastRefillTime = System.currentTimeMillis();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens--;
+            granted++;
+            return true;
+        }
+        denied++;
+        return false;
+    }
+
+    // Gives back a token whose retry was denied further up (the node budget), counting it as denied
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+        granted--;
+        denied++;
+    }
+
+    private void refill() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastRefillTime;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * (double) capacity / windowMs);
+            lastRefillTime = now;
+        }
+    }
+
+    public synchronized double getAvailable() {
+        refill();
+        return tokens;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public synchronized long getGranted() {
+        return granted;
+    }
+
+    public synchronized long getDenied() {
+        return denied;
+    }
+}
@@ -0,0 +1,10 @@
+package com.seleniumui.executors;
+
+public enum RetryDecision {
+    // Back off and run the same attempt again
+    RETRY,
+    // Rethrow immediately: the failure cannot go away by waiting
+    FAIL_FAST,
+    // Look the element up again before the next attempt, without backing off
+    RE_RESOLVE
+}
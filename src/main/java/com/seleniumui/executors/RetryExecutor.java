@@ -1,53 +1,316 @@
 package com.seleniumui.executors;
 
+import com.seleniumui.exceptions.CircuitOpenException;
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
+import org.openqa.selenium.WebElement;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class RetryExecutor {
 
-    private static final int DEFAULT_RETRY_COUNT = 3;
-    private static final long DEFAULT_DELAY_MS = 1000;
+    private static final Logger LOG = Log.getLogger(RetryExecutor.class);
 
     private RetryExecutor() {}
 
     public static void runWithRetry(Runnable action, int retryCount, long delayMs) {
-        for (int i = 0; i < retryCount; i++) {
-            try {
-                action.run();
-                System.out.println("Action succeeded on attempt " + (i + 1));
-                return;
-            } catch (Exception e) {
-                if (i == retryCount - 1) throw e;
-                sleep(delayMs);
-                System.out.println("Action failed on attempt " + (i + 1) + ", retrying...");
-            }
-        }
+        runWithRetry(action, RetryPolicy.fixed(retryCount, delayMs));
     }
 
     public static void runWithRetry(Runnable action) {
-        runWithRetry(action, DEFAULT_RETRY_COUNT, DEFAULT_DELAY_MS);
+        runWithRetry(action, RetryPolicy.defaults());
+    }
+
+    public static void runWithRetry(Runnable action, RetryPolicy policy) {
+        runWithRetry(action, policy, null);
+    }
+
+    public static void runWithRetry(Runnable action, RetryPolicy policy, RetryGuard guard) {
+        int attempts = execute(asSupplier(action), policy, guard, null).attempts;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Action succeeded on attempt {}", attempts);
+        }
+    }
+
+    // Element-bound action: the element is looked up once and only looked up again when the policy says RE_RESOLVE
+    public static void runWithRetry(Supplier<WebElement> resolver, Consumer<WebElement> action, RetryPolicy policy) {
+        runWithRetry(resolver, action, policy, null);
+    }
+
+    public static void runWithRetry(Supplier<WebElement> resolver, Consumer<WebElement> action, RetryPolicy policy,
+                                    RetryGuard guard) {
+        ElementAttempt<Void> attempt = new ElementAttempt<>(resolver, asFunction(action));
+        int attempts = execute(attempt, policy, guard, attempt::reResolve).attempts;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Action succeeded on attempt {}", attempts);
+        }
     }
 
     public static <T> T getWithRetry(Supplier<T> supplier, int retryCount, long delayMs) {
-        for (int i = 0; i < retryCount; i++) {
+        return getWithRetry(supplier, RetryPolicy.fixed(retryCount, delayMs));
+    }
+
+    public static <T> T getWithRetry(Supplier<T> supplier) {
+        return getWithRetry(supplier, RetryPolicy.defaults());
+    }
+
+    public static <T> T getWithRetry(Supplier<T> supplier, RetryPolicy policy) {
+        return getWithRetry(supplier, policy, null);
+    }
+
+    public static <T> T getWithRetry(Supplier<T> supplier, RetryPolicy policy, RetryGuard guard) {
+        return execute(supplier, policy, guard, null).value;
+    }
+
+    public static <T> T getWithRetry(Supplier<WebElement> resolver, Function<WebElement, T> action, RetryPolicy policy) {
+        return getWithRetry(resolver, action, policy, null);
+    }
+
+    public static <T> T getWithRetry(Supplier<WebElement> resolver, Function<WebElement, T> action, RetryPolicy policy,
+                                     RetryGuard guard) {
+        ElementAttempt<T> attempt = new ElementAttempt<>(resolver, action);
+        return execute(attempt, policy, guard, attempt::reResolve).value;
+    }
+
+    // Async variants: every attempt runs on the given scheduler, backoff is a scheduled delay, and no caller
+    // thread is parked. Cancelling the returned future cancels the next attempt; one already running (a WebDriver
+    // command cannot be interrupted) finishes, its result is discarded and nothing further is scheduled
+    public static CompletableFuture<Void> runWithRetryAsync(RetryScheduler scheduler, Runnable action) {
+        return runWithRetryAsync(scheduler, action, RetryPolicy.defaults(), null);
+    }
+
+    public static CompletableFuture<Void> runWithRetryAsync(RetryScheduler scheduler, Runnable action,
+                                                            RetryPolicy policy, RetryGuard guard) {
+        return new AsyncRetry<>(scheduler, asSupplier(action), policy, guard, null).start();
+    }
+
+    public static CompletableFuture<Void> runWithRetryAsync(RetryScheduler scheduler, Supplier<WebElement> resolver,
+                                                            Consumer<WebElement> action, RetryPolicy policy,
+                                                            RetryGuard guard) {
+        ElementAttempt<Void> attempt = new ElementAttempt<>(resolver, asFunction(action));
+        return new AsyncRetry<>(scheduler, attempt, policy, guard, attempt::reResolve).start();
+    }
+
+    public static <T> CompletableFuture<T> getWithRetryAsync(RetryScheduler scheduler, Supplier<T> supplier) {
+        return getWithRetryAsync(scheduler, supplier, RetryPolicy.defaults(), null);
+    }
+
+    public static <T> CompletableFuture<T> getWithRetryAsync(RetryScheduler scheduler, Supplier<T> supplier,
+                                                             RetryPolicy policy, RetryGuard guard) {
+        return new AsyncRetry<>(scheduler, supplier, policy, guard, null).start();
+    }
+
+    public static <T> CompletableFuture<T> getWithRetryAsync(RetryScheduler scheduler, Supplier<WebElement> resolver,
+                                                             Function<WebElement, T> action,
+                                                             RetryPolicy policy, RetryGuard guard) {
+        ElementAttempt<T> attempt = new ElementAttempt<>(resolver, action);
+        return new AsyncRetry<>(scheduler, attempt, policy, guard, attempt::reResolve).start();
+    }
+
+    private static <T> Outcome<T> execute(Supplier<T> attempt, RetryPolicy policy, RetryGuard guard,
+                                          Runnable onReResolve) {
+        long startTime = System.currentTimeMillis();
+        RuntimeException lastFailure = null;
+        for (int i = 1; ; i++) {
+            beforeAttempt(guard, lastFailure);
             try {
-                return supplier.get();
-            } catch (Exception e) {
-                if (i == retryCount - 1) throw e;
-                sleep(delayMs);
+                T value = attempt.get();
+                if (guard != null) {
+                    guard.onSuccess();
+                }
+                return new Outcome<>(value, i);
+            } catch (CircuitOpenException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                lastFailure = e;
+                long delayMs = nextDelay(e, i, startTime, policy, guard, onReResolve);
+                if (!sleep(delayMs)) {
+                    throw e;
+                }
             }
         }
-        throw new IllegalStateException("Retry exhausted");
     }
 
-    public static <T> T getWithRetry(Supplier<T> supplier) {
-        return getWithRetry(supplier, DEFAULT_RETRY_COUNT, DEFAULT_DELAY_MS);
+    private static void beforeAttempt(RetryGuard guard, RuntimeException lastFailure) {
+        if (guard == null) {
+            return;
+        }
+        try {
+            guard.beforeAttempt();
+        } catch (CircuitOpenException e) {
+            if (lastFailure != null) {
+                e.initCause(lastFailure);
+            }
+            throw e;
+        }
+    }
+
+    // Delay before the next attempt, or rethrows the failure when the policy, guard or time budget says stop
+    private static long nextDelay(RuntimeException failure, int attempt, long startTime, RetryPolicy policy,
+                                  RetryGuard guard, Runnable onReResolve) {
+        if (guard != null) {
+            guard.onFailure(failure);
+        }
+        RetryDecision decision = policy.decide(failure);
+        if (decision == RetryDecision.FAIL_FAST || attempt >= policy.getMaxAttempts()) {
+            throw failure;
+        }
+        // Budget exhausted: the grid is already struggling, so fail instead of adding load
+        if (guard != null && !guard.tryAcquireRetry()) {
+            throw failure;
+        }
+
+        // Re-resolving replaces the stale handle; waiting would not make the old one valid again
+        long delayMs = decision == RetryDecision.RE_RESOLVE ? 0 : policy.delayBeforeRetry(attempt);
+        if (System.currentTimeMillis() - startTime + delayMs > policy.getMaxElapsedMs()) {
+            throw failure;
+        }
+        if (decision == RetryDecision.RE_RESOLVE && onReResolve != null) {
+            onReResolve.run();
+        }
+
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Action failed on attempt {} ({}), retrying in {}ms", attempt, failure.getClass().getSimpleName(),
+                    delayMs);
+        }
+        return delayMs;
     }
 
-    private static void sleep(long delayMs) {
+    private static boolean sleep(long delayMs) {
+        if (delayMs <= 0) {
+            return true;
+        }
         try {
             Thread.sleep(delayMs);
+            return true;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Supplier<Void> asSupplier(Runnable action) {
+        return () -> {
+            action.run();
+            return null;
+        };
+    }
+
+    private static Function<WebElement, Void> asFunction(Consumer<WebElement> action) {
+        return element -> {
+            action.accept(element);
+            return null;
+        };
+    }
+
+    private record Outcome<T>(T value, int attempts) {
+    }
+
+    private static final class ElementAttempt<T> implements Supplier<T> {
+        private final Supplier<WebElement> resolver;
+        private final Function<WebElement, T> action;
+        private volatile WebElement element;
+
+        private ElementAttempt(Supplier<WebElement> resolver, Function<WebElement, T> action) {
+            this.resolver = resolver;
+            this.action = action;
+        }
+
+        @Override
+        public T get() {
+            WebElement current = element;
+            if (current == null) {
+                current = resolver.get();
+                element = current;
+            }
+            return action.apply(current);
+        }
+
+        private void reResolve() {
+            element = null;
+        }
+    }
+
+    private static final class AsyncRetry<T> {
+        private final RetryScheduler scheduler;
+        private final Supplier<T> attempt;
+        private final RetryPolicy policy;
+        private final RetryGuard guard;
+        private final Runnable onReResolve;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long startTime = System.currentTimeMillis();
+
+        // Only touched by the attempt that is currently running
+        private int attempts;
+        private RuntimeException lastFailure;
+        private volatile RetryScheduler.Cancellable pending;
+
+        private AsyncRetry(RetryScheduler scheduler, Supplier<T> attempt, RetryPolicy policy, RetryGuard guard,
+                           Runnable onReResolve) {
+            this.scheduler = Objects.requireNonNull(scheduler, "RetryScheduler cannot be null");
+            this.attempt = attempt;
+            this.policy = policy;
+            this.guard = guard;
+            this.onReResolve = onReResolve;
+        }
+
+        private CompletableFuture<T> start() {
+            future.whenComplete((result, error) -> {
+                RetryScheduler.Cancellable task = pending;
+                if (task != null) {
+                    task.cancel();
+                }
+            });
+            schedule(0);
+            return future;
+        }
+
+        private void schedule(long delayMs) {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                pending = scheduler.schedule(this::attempt, delayMs);
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            // Cancelled between the isDone check and the assignment above
+            if (future.isDone()) {
+                pending.cancel();
+            }
+        }
+
+        private void attempt() {
+            if (future.isDone()) {
+                return;
+            }
+            attempts++;
+            try {
+                beforeAttempt(guard, lastFailure);
+                T value = attempt.get();
+                if (guard != null) {
+                    guard.onSuccess();
+                }
+                future.complete(value);
+            } catch (CircuitOpenException e) {
+                future.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                lastFailure = e;
+                try {
+                    schedule(nextDelay(e, attempts, startTime, policy, guard, onReResolve));
+                } catch (RuntimeException stop) {
+                    future.completeExceptionally(stop);
+                }
+            } catch (Error e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
         }
     }
 }
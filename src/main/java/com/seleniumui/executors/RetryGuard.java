@@ -0,0 +1,149 @@
+package com.seleniumui.executors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Retry budget plus circuit breaker for one session; optionally chained to a guard shared by every session on a grid node
+public final class RetryGuard {
+
+    public static final int DEFAULT_RETRY_CAPACITY = 20;
+    public static final long DEFAULT_RETRY_WINDOW_MS = 10_000;
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_COOLDOWN_MS = 30_000;
+
+    private static final Map<String, RetryGuard> NODE_GUARDS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final RetryBudget budget;
+    private final CircuitBreaker circuitBreaker;
+    private volatile RetryGuard nodeGuard;
+
+    public RetryGuard(String name) {
+        this(name, new RetryBudget(DEFAULT_RETRY_CAPACITY, DEFAULT_RETRY_WINDOW_MS),
+                new CircuitBreaker(name, DEFAULT_FAILURE_THRESHOLD, DEFAULT_COOLDOWN_MS));
+    }
+
+    public RetryGuard(String name, RetryBudget budget, CircuitBreaker circuitBreaker) {
+        this.name = name;
+        this.budget = budget;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    // One guard per grid node, shared by every session that runs on it
+    public static RetryGuard forNode(String node) {
+        return NODE_GUARDS.computeIfAbsent(node, key -> new RetryGuard("node " + key));
+    }
+
+    public static RetryGuard removeNode(String node) {
+        return NODE_GUARDS.remove(node);
+    }
+
+    public static List<State> getNodeStates() {
+        List<State> states = new ArrayList<>();
+        NODE_GUARDS.values().forEach(guard -> states.add(guard.getState()));
+        return states;
+    }
+
+    public RetryGuard withNodeGuard(RetryGuard nodeGuard) {
+        this.nodeGuard = nodeGuard;
+        return this;
+    }
+
+    // Throws CircuitOpenException when this session or its node is shedding load
+    void beforeAttempt() {
+        if (circuitBreaker != null) {
+            circuitBreaker.beforeCall();
+        }
+        RetryGuard node = nodeGuard;
+        if (node != null) {
+            try {
+                node.beforeAttempt();
+            } catch (RuntimeException e) {
+                // The call never happens, so a half-open probe granted above must not stay claimed
+                if (circuitBreaker != null) {
+                    circuitBreaker.releaseProbe();
+                }
+                throw e;
+            }
+        }
+    }
+
+    void onSuccess() {
+        if (circuitBreaker != null) {
+            circuitBreaker.onSuccess();
+        }
+        RetryGuard node = nodeGuard;
+        if (node != null) {
+            node.onSuccess();
+        }
+    }
+
+    void onFailure(Throwable error) {
+        if (circuitBreaker != null) {
+            circuitBreaker.onFailure(error);
+        }
+        RetryGuard node = nodeGuard;
+        if (node != null) {
+            node.onFailure(error);
+        }
+    }
+
+    boolean tryAcquireRetry() {
+        if (budget != null && !budget.tryAcquire()) {
+            return false;
+        }
+        RetryGuard node = nodeGuard;
+        if (node == null || node.tryAcquireRetry()) {
+            return true;
+        }
+        // The retry never runs, so the session token taken above must not be spent
+        if (budget != null) {
+            budget.refund();
+        }
+        return false;
+    }
+
+    // True when calls would currently be rejected; runners can use it to skip or requeue work
+    public boolean isShedding() {
+        RetryGuard node = nodeGuard;
+        return (circuitBreaker != null && circuitBreaker.getState() == CircuitBreaker.State.OPEN)
+                || (node != null && node.isShedding());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public RetryGuard getNodeGuard() {
+        return nodeGuard;
+    }
+
+    public State getState() {
+        return new State(
+                name,
+                circuitBreaker != null ? circuitBreaker.getState() : CircuitBreaker.State.CLOSED,
+                circuitBreaker != null ? circuitBreaker.getConsecutiveFailures() : 0,
+                circuitBreaker != null ? circuitBreaker.getRetryAfterMs() : 0,
+                circuitBreaker != null ? circuitBreaker.getTrips() : 0,
+                circuitBreaker != null ? circuitBreaker.getRejected() : 0,
+                budget != null ? budget.getAvailable() : Double.POSITIVE_INFINITY,
+                budget != null ? budget.getGranted() : 0,
+                budget != null ? budget.getDenied() : 0
+        );
+    }
+
+    public record State(String name, CircuitBreaker.State circuit, int consecutiveFailures, long retryAfterMs,
+                        long trips, long rejectedCalls, double availableRetries, long retriesGranted,
+                        long retriesDenied) {
+    }
+}
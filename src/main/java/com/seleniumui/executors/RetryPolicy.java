@@ -0,0 +1,185 @@
+package com.seleniumui.executors;
+
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Immutable retry settings: attempt limit, exponential backoff with jitter, elapsed-time cap and
+// a decision per exception class (the closest registered superclass wins)
+public final class RetryPolicy {
+
+    private static final RetryPolicy DEFAULT = builder()
+            .maxAttempts(3)
+            .backoff(200, 2.0, 2000)
+            .jitter(0.2)
+            .maxElapsedMs(10_000)
+            .on(NoSuchElementException.class, RetryDecision.FAIL_FAST)
+            .on(InvalidSelectorException.class, RetryDecision.FAIL_FAST)
+            .on(NoSuchSessionException.class, RetryDecision.FAIL_FAST)
+            .on(StaleElementReferenceException.class, RetryDecision.RE_RESOLVE)
+            .build();
+
+    private static final RetryPolicy NONE = builder().maxAttempts(1).build();
+
+    private final int maxAttempts;
+    private final long initialDelayMs;
+    private final double multiplier;
+    private final long maxDelayMs;
+    private final double jitter;
+    private final long maxElapsedMs;
+    private final RetryDecision defaultDecision;
+    private final Map<Class<? extends Throwable>, RetryDecision> decisions;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayMs = builder.initialDelayMs;
+        this.multiplier = builder.multiplier;
+        this.maxDelayMs = builder.maxDelayMs;
+        this.jitter = builder.jitter;
+        this.maxElapsedMs = builder.maxElapsedMs;
+        this.defaultDecision = builder.defaultDecision;
+        this.decisions = Map.copyOf(builder.decisions);
+    }
+
+    // Fail fast on absent elements and dead sessions, re-resolve stale elements, back off on the rest
+    public static RetryPolicy defaults() {
+        return DEFAULT;
+    }
+
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    // Legacy behaviour: constant delay and every exception retried, except ones that can never succeed
+    public static RetryPolicy fixed(int maxAttempts, long delayMs) {
+        return builder()
+                .maxAttempts(maxAttempts)
+                .backoff(delayMs, 1.0, delayMs)
+                .on(InvalidSelectorException.class, RetryDecision.FAIL_FAST)
+                .on(NoSuchSessionException.class, RetryDecision.FAIL_FAST)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.maxAttempts = maxAttempts;
+        builder.initialDelayMs = initialDelayMs;
+        builder.multiplier = multiplier;
+        builder.maxDelayMs = maxDelayMs;
+        builder.jitter = jitter;
+        builder.maxElapsedMs = maxElapsedMs;
+        builder.defaultDecision = defaultDecision;
+        builder.decisions.putAll(decisions);
+        return builder;
+    }
+
+    public RetryDecision decide(Throwable error) {
+        for (Class<?> type = error.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            RetryDecision decision = decisions.get(type);
+            if (decision != null) {
+                return decision;
+            }
+        }
+        return defaultDecision;
+    }
+
+    // Delay before the given retry (1 = first retry), jittered by +/- jitter of the exponential value
+    public long delayBeforeRetry(int retry) {
+        double delay = initialDelayMs * Math.pow(multiplier, Math.max(0, retry - 1));
+        delay = Math.min(delay, maxDelayMs);
+        if (jitter > 0 && delay > 0) {
+            delay += delay * jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        }
+        return Math.max(0, Math.round(delay));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getMaxElapsedMs() {
+        return maxElapsedMs;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + maxAttempts + ", initialDelayMs=" + initialDelayMs +
+                ", multiplier=" + multiplier + ", maxDelayMs=" + maxDelayMs + ", jitter=" + jitter +
+                ", maxElapsedMs=" + maxElapsedMs + ", default=" + defaultDecision + ", decisions=" + decisions + "}";
+    }
+
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private long initialDelayMs = 200;
+        private double multiplier = 2.0;
+        private long maxDelayMs = 2000;
+        private double jitter = 0;
+        private long maxElapsedMs = Long.MAX_VALUE;
+        private RetryDecision defaultDecision = RetryDecision.RETRY;
+        private final Map<Class<? extends Throwable>, RetryDecision> decisions = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder fixedDelay(long delayMs) {
+            return backoff(delayMs, 1.0, delayMs);
+        }
+
+        public Builder backoff(long initialDelayMs, double multiplier, long maxDelayMs) {
+            if (initialDelayMs < 0 || maxDelayMs < initialDelayMs || multiplier < 1.0) {
+                throw new IllegalArgumentException("Invalid backoff: initial=" + initialDelayMs +
+                        ", multiplier=" + multiplier + ", max=" + maxDelayMs);
+            }
+            this.initialDelayMs = initialDelayMs;
+            this.multiplier = multiplier;
+            this.maxDelayMs = maxDelayMs;
+            return this;
+        }
+
+        public Builder jitter(double jitter) {
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder maxElapsedMs(long maxElapsedMs) {
+            if (maxElapsedMs <= 0) {
+                throw new IllegalArgumentException("maxElapsedMs must be greater than 0");
+            }
+            this.maxElapsedMs = maxElapsedMs;
+            return this;
+        }
+
+        public Builder on(Class<? extends Throwable> type, RetryDecision decision) {
+            decisions.put(type, decision);
+            return this;
+        }
+
+        public Builder otherwise(RetryDecision decision) {
+            this.defaultDecision = decision;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
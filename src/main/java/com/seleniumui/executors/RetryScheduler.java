@@ -0,0 +1,15 @@
+package com.seleniumui.executors;
+
+// Runs the attempts and backoff delays of async retries. Attempts are blocking WebDriver calls, so each
+// browser session should bring its own (SmartWait.getRetryScheduler()) rather than share one across sessions
+@FunctionalInterface
+public interface RetryScheduler {
+
+    // Cancelling before the action starts means it never runs
+    Cancellable schedule(Runnable action, long delayMs);
+
+    @FunctionalInterface
+    interface Cancellable {
+        void cancel();
+    }
+}
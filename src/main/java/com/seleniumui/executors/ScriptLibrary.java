@@ -0,0 +1,352 @@
+package com.seleniumui.executors;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Helper functions installed once per realm as window.__sui, so callers send a function name and arguments
+// instead of the whole script source. Installed up front by a BiDi preload script when available; otherwise
+// (or after a navigation the preload did not cover) the first call that finds it missing resends the bundle
+// together with the call, so a miss costs one extra round trip and never a failure.
+public final class ScriptLibrary {
+
+    private static final String MISSING = "__sui_missing__";
+
+    // Function bodies only; the version is derived from this text so a changed bundle replaces an older one
+    private static final String FUNCTIONS =
+            JsLocator.FIND_ALL_FUNCTION +
+                    JsExecutor.SET_VALUE_FUNCTION +
+                    JsExecutor.VISIBLE_FUNCTION +
+                    "const describe = (node) => {" +
+                    "  let text = node.tagName.toLowerCase();" +
+                    "  if (node.id) text += '#' + node.id;" +
+                    "  if (typeof node.className === 'string' && node.className.trim())" +
+                    "    text += '.' + node.className.trim().split(/\\s+/).join('.');" +
+                    "  return text;" +
+                    "};" +
+                    "const inViewport = (el) => {" +
+                    "  const rect = el.getBoundingClientRect();" +
+                    "  return rect.top >= 0 && rect.left >= 0 &&" +
+                    "    rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) &&" +
+                    "    rect.right <= (window.innerWidth || document.documentElement.clientWidth);" +
+                    "};" +
+                    "const topAt = (el) => {" +
+                    "  const rect = el.getBoundingClientRect();" +
+                    "  return document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);" +
+                    "};" +
+                    "const covered = (el) => { const top = topAt(el); return !(el === top || el.contains(top)); };" +
+                    "const inspect = (el, scrolled) => {" +
+                    "  const top = topAt(el);" +
+                    "  const isCovered = !(el === top || el.contains(top));" +
+                    "  return {scrolled, inViewport: inViewport(el), covered: isCovered," +
+                    "    occludedBy: isCovered && top ? describe(top) : null};" +
+                    "};" +
+                    // Viewport check, occlusion check, scroll and settle; scrolls only when needed
+                    "const scroll = (target, using, value, settleMs) => new Promise(resolve => {" +
+                    "  const el = target || (using ? __suiFindAll(using, value, document)[0] : null);" +
+                    "  if (!el || !el.isConnected) { resolve({error: target ? 'stale' : 'missing'}); return; }" +
+                    "  const before = inspect(el, false);" +
+                    "  if (before.inViewport && !before.covered) { resolve(before); return; }" +
+                    "  el.scrollIntoView({behavior: 'auto', block: 'center', inline: 'center'});" +
+                    // Smooth scrolling (CSS scroll-behavior) moves the element over several frames
+                    "  const started = performance.now();" +
+                    "  let last = null;" +
+                    "  let stableFrames = 0;" +
+                    "  const next = () => document.hidden ? setTimeout(settle, 16) : requestAnimationFrame(settle);" +
+                    "  const settle = () => {" +
+                    "    const rect = el.getBoundingClientRect();" +
+                    "    stableFrames = last && rect.top === last.top && rect.left === last.left ? stableFrames + 1 : 0;" +
+                    "    last = rect;" +
+                    "    if (stableFrames >= 2 || performance.now() - started > settleMs) resolve(inspect(el, true));" +
+                    "    else next();" +
+                    "  };" +
+                    "  next();" +
+                    "});" +
+                    "const overlay = () => {" +
+                    "  const top = document.elementFromPoint(window.innerWidth / 2, window.innerHeight / 2);" +
+                    "  if (!top) return false;" +
+                    "  if (/(overlay|modal|popup|backdrop|loading|spinner)/i.test(top.className)) return true;" +
+                    "  const rect = top.getBoundingClientRect();" +
+                    "  const style = window.getComputedStyle(top);" +
+                    "  const coversScreen = rect.top <= 1 && rect.left <= 1 &&" +
+                    "    rect.bottom >= window.innerHeight - 1 && rect.right >= window.innerWidth - 1;" +
+                    "  const blocksClick = style.pointerEvents !== 'none' && style.opacity > 0.1;" +
+                    "  const overflowHidden = document.body.style.overflow === 'hidden' ||" +
+                    "    document.documentElement.style.overflow === 'hidden';" +
+                    "  return (coversScreen && blocksClick) || overflowHidden;" +
+                    "};" +
+                    // Everything an assertion may want from one element, limited to what the spec asks for
+                    "const snapshot = (target, using, value, spec) => {" +
+                    "  const el = target || (using ? __suiFindAll(using, value, document)[0] : null);" +
+                    "  if (!el) return {missing: true};" +
+                    "  if (!el.isConnected) return {stale: true};" +
+                    "  const displayed = __suiVisible(el);" +
+                    "  const result = {element: el};" +
+                    "  if (spec.displayed) result.displayed = displayed;" +
+                    "  if (spec.enabled) result.enabled = !el.matches(':disabled');" +
+                    "  if (spec.text) result.text = displayed ? (el.innerText || '').trim() : '';" +
+                    "  if (spec.value) result.value = 'value' in el ? String(el.value) : null;" +
+                    "  if (spec.classes) result.classes = Array.from(el.classList);" +
+                    "  if (spec.rect) {" +
+                    "    const rect = el.getBoundingClientRect();" +
+                    "    result.rect = {x: rect.left + window.pageXOffset, y: rect.top + window.pageYOffset," +
+                    "      width: rect.width, height: rect.height};" +
+                    "  }" +
+                    "  result.attributes = {};" +
+                    "  for (const name of spec.attributes) result.attributes[name] = el.getAttribute(name);" +
+                    "  result.css = {};" +
+                    "  if (spec.css.length) {" +
+                    "    const style = window.getComputedStyle(el);" +
+                    "    for (const name of spec.css) result.css[name] = style.getPropertyValue(name);" +
+                    "  }" +
+                    "  return result;" +
+                    "};" +
+                    // Reads one property from every element in one pass; handles are returned only when looked up here
+                    "const readers = {" +
+                    "  text: (el) => __suiVisible(el) ? (el.innerText || '').trim() : ''," +
+                    "  attribute: (el, name) => el.getAttribute(name)," +
+                    "  snapshot: (el, spec) => { const result = snapshot(el, null, null, spec); delete result.element; return result; }" +
+                    "};" +
+                    "const collect = (elements, using, value, op, arg) => {" +
+                    "  const els = elements || __suiFindAll(using, value, document);" +
+                    "  if (els.some(el => !el || !el.isConnected)) return {stale: true};" +
+                    "  return {elements: elements ? null : els, values: els.map(el => readers[op](el, arg))};" +
+                    "};" +
+                    // Table extraction: one chunk of rows per call. textContent instead of innerText so thousands of
+                    // cells do not force layout. Virtualised grids scroll their container and keep a cursor per stream;
+                    // rows are told apart by their row-index attribute, or by content when the grid has none
+                    "const cellText = (cell) => (cell.textContent || '').replace(/\\s+/g, ' ').trim();" +
+                    "const readRow = (row, opts) => {" +
+                    "  const cells = Array.from(row.querySelectorAll(opts.cellSelector));" +
+                    "  return (opts.columns ? opts.columns.map(i => cells[i]) : cells).map(cell => cell ? cellText(cell) : null);" +
+                    "};" +
+                    "const isBlank = (cells) => cells.every(text => !text);" +
+                    "const rowKey = (row, cells) => row.getAttribute('aria-rowindex') || row.getAttribute('row-index') ||" +
+                    "  row.getAttribute('data-index') || row.getAttribute('data-row-index') || cells.join('\\u0001');" +
+                    "const scrollable = (el) => el.scrollHeight > el.clientHeight + 1 &&" +
+                    "  /(auto|scroll)/.test(window.getComputedStyle(el).overflowY);" +
+                    "const scrollerOf = (root, selector) => {" +
+                    "  if (selector) return root.querySelector(selector) || document.querySelector(selector) || root;" +
+                    "  if (scrollable(root)) return root;" +
+                    "  const inner = Array.from(root.querySelectorAll('*')).find(scrollable);" +
+                    "  if (inner) return inner;" +
+                    "  for (let el = root.parentElement; el; el = el.parentElement) if (scrollable(el)) return el;" +
+                    "  return document.scrollingElement || document.documentElement;" +
+                    "};" +
+                    "const nextFrame = () => new Promise(resolve =>" +
+                    "  document.hidden ? setTimeout(resolve, 16) : requestAnimationFrame(() => resolve()));" +
+                    "const sleep = (ms) => new Promise(resolve => setTimeout(resolve, ms));" +
+                    "const tableCursors = new Map();" +
+                    "const virtualChunk = async (root, opts, cursor) => {" +
+                    "  let state = tableCursors.get(cursor.id);" +
+                    "  if (!state) {" +
+                    "    state = {seen: new Set(), emitted: 0, scroller: scrollerOf(root, opts.scrollSelector)};" +
+                    "    tableCursors.set(cursor.id, state);" +
+                    "    state.scroller.scrollTop = 0;" +
+                    "    await nextFrame();" +
+                    "    await sleep(opts.settleMs);" +
+                    "  }" +
+                    "  const out = [];" +
+                    "  let done = false;" +
+                    "  while (out.length < opts.limit) {" +
+                    "    const current = new Set();" +
+                    "    for (const row of root.querySelectorAll(opts.rowSelector)) {" +
+                    "      const cells = readRow(row, opts);" +
+                    "      if (opts.skipEmpty && isBlank(cells)) continue;" +
+                    "      const key = rowKey(row, cells);" +
+                    "      current.add(key);" +
+                    "      if (!state.seen.has(key)) out.push([state.emitted++, cells]);" +
+                    "    }" +
+                    // Consecutive windows overlap, so remembering the previous window is enough to skip repeats
+                    "    state.seen = current;" +
+                    "    const scroller = state.scroller;" +
+                    "    const before = scroller.scrollTop;" +
+                    "    if (before + scroller.clientHeight >= scroller.scrollHeight - 1) { done = true; break; }" +
+                    "    scroller.scrollTop = before + Math.max(1, Math.floor(scroller.clientHeight * 0.8));" +
+                    "    if (scroller.scrollTop === before) { done = true; break; }" +
+                    "    await nextFrame();" +
+                    "    await sleep(opts.settleMs);" +
+                    "  }" +
+                    "  if (done) tableCursors.delete(cursor.id);" +
+                    "  return {rows: out, done};" +
+                    "};" +
+                    "const tableChunk = (root, opts, cursor) => {" +
+                    "  if (!root || !root.isConnected) return {stale: true};" +
+                    "  if (opts.virtual) return virtualChunk(root, opts, cursor);" +
+                    "  const rows = root.querySelectorAll(opts.rowSelector);" +
+                    "  const out = [];" +
+                    "  let next = cursor.offset;" +
+                    "  while (next < rows.length && out.length < opts.limit) {" +
+                    "    const cells = readRow(rows[next], opts);" +
+                    "    if (!(opts.skipEmpty && isBlank(cells))) out.push([next, cells]);" +
+                    "    next++;" +
+                    "  }" +
+                    "  return {rows: out, offset: next, done: next >= rows.length};" +
+                    "};" +
+                    // Every option candidate of a custom dropdown: inside it, in containers it points at through
+                    // aria-controls/aria-owns, and in visible listbox/menu popups rendered elsewhere (portals).
+                    // scope orders those three, rank prefers real options over generic list items
+                    "const dropdownOptions = (dropdown) => {" +
+                    "  const scopes = [dropdown];" +
+                    "  const linked = [dropdown, ...dropdown.querySelectorAll('[aria-controls], [aria-owns]')];" +
+                    "  for (const el of linked) {" +
+                    "    const ids = ((el.getAttribute('aria-controls') || '') + ' ' + (el.getAttribute('aria-owns') || '')).split(/\\s+/);" +
+                    "    for (const id of ids) {" +
+                    "      const target = id && document.getElementById(id);" +
+                    "      if (target && !scopes.some(scope => scope.contains(target))) scopes.push(target);" +
+                    "    }" +
+                    "  }" +
+                    "  const firstPortal = scopes.length;" +
+                    "  for (const popup of document.querySelectorAll('[role=\"listbox\"], [role=\"menu\"]')) {" +
+                    "    if (__suiVisible(popup) && !scopes.some(scope => scope.contains(popup) || popup.contains(scope))) scopes.push(popup);" +
+                    "  }" +
+                    "  const seen = new Set();" +
+                    "  const options = [];" +
+                    "  scopes.forEach((scope, index) => {" +
+                    "    const candidates = scope.querySelectorAll('option, [role=\"option\"], [role=\"menuitem\"], li, ' +" +
+                    "      '[data-value], [data-text], [class*=\"option\"], [class*=\"item\"]');" +
+                    "    for (const el of candidates) {" +
+                    "      if (seen.has(el)) continue;" +
+                    "      seen.add(el);" +
+                    "      const data = {};" +
+                    "      for (const key in el.dataset) data[key] = el.dataset[key];" +
+                    "      options.push({element: el, text: cellText(el), value: el.getAttribute('value'), data," +
+                    "        visible: __suiVisible(el), scope: index === 0 ? 0 : index < firstPortal ? 1 : 2," +
+                    "        rank: el.matches('option, [role=\"option\"]') ? 0 : el.matches('[data-value], [data-text]') ? 1" +
+                    "          : el.matches('li, [role=\"menuitem\"]') ? 2 : 3});" +
+                    "    }" +
+                    "  });" +
+                    "  return options;" +
+                    "};" +
+                    "const api = {" +
+                    "  findAll: __suiFindAll," +
+                    "  find: (using, value, root) => __suiFindAll(using, value, root)[0] || null," +
+                    "  resolveAll: (lookups, root) => lookups.map(([using, value]) => __suiFindAll(using, value, root)[0] || null)," +
+                    // A rejected value was still assigned and announced; the original goes back so a caller
+                    // falling back to keystrokes types onto what the user had, not onto the rejected text
+                    "  setValue: (el, value, append) => {" +
+                    "    const original = !el ? '' : el.isContentEditable ? el.textContent : el.value;" +
+                    "    const failure = __suiSetValue(el, (append ? original : '') + value);" +
+                    "    if (failure && failure.startsWith('value rejected')) {" +
+                    "      const proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype" +
+                    "        : el.tagName === 'SELECT' ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+                    "      Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, original);" +
+                    "      el.dispatchEvent(new Event('input', {bubbles: true}));" +
+                    "      el.dispatchEvent(new Event('change', {bubbles: true}));" +
+                    "    }" +
+                    "    return failure;" +
+                    "  }," +
+                    "  fill: (root, fields) => fields.map(([using, value, text]) => {" +
+                    "    try { return __suiSetValue(__suiFindAll(using, value, root)[0], text); }" +
+                    "    catch (e) { return String(e); }" +
+                    "  })," +
+                    "  scroll," +
+                    "  snapshot," +
+                    "  collect," +
+                    "  tableChunk," +
+                    "  dropdownOptions," +
+                    // tag|role|classes with generated parts (hashes, counters) masked, stable across pages and builds
+                    "  signature: (el) => el.tagName.toLowerCase() + '|' + (el.getAttribute('role') || '') + '|' +" +
+                    "    Array.from(el.classList).map(name => name.split(/([-_])/)" +
+                    "      .map(part => /\\d/.test(part) ? '*' : part).join('')).sort().join('.')," +
+                    "  tableHeaders: (root, selector) => Array.from(root.querySelectorAll(selector)).map(cellText)," +
+                    "  releaseTable: (id) => { tableCursors.delete(id); }," +
+                    "  overlay," +
+                    "  inViewport," +
+                    "  covered," +
+                    "  click: (el) => { el.click(); }," +
+                    "  focus: (el) => { el.focus(); }," +
+                    "  domHash: () => document.readyState + '|' + document.body.children.length + '|' +" +
+                    "    Array.from(document.querySelectorAll('*')).filter(el => el.tagName.match(/^[A-Z]/)).length" +
+                    "};";
+
+    public static final String VERSION = Integer.toHexString(FUNCTIONS.hashCode());
+
+    // Idempotent: a realm that already holds this version is left alone
+    private static final String INSTALL =
+            "(() => {" +
+                    "  if (window.__sui && window.__sui.version === '" + VERSION + "') return;" +
+                    FUNCTIONS +
+                    "  api.version = '" + VERSION + "';" +
+                    "  Object.defineProperty(window, '__sui', {value: Object.freeze(api), configurable: true});" +
+                    "})();";
+
+    // For script.addPreloadScript, which takes a function declaration
+    public static final String PRELOAD_FUNCTION = "() => {" + INSTALL + "}";
+
+    private static final String LOOKUP =
+            "const __suiLib = window.__sui;" +
+                    "const __suiReady = !!__suiLib && __suiLib.version === '" + VERSION + "';";
+
+    private static final String CALL =
+            LOOKUP +
+                    "if (!__suiReady) return '" + MISSING + "';" +
+                    "const [__suiFn, ...__suiArgs] = arguments;" +
+                    "return __suiLib[__suiFn](...__suiArgs);";
+
+    // Promise results are awaited in the page; a rejection comes back as an error instead of a script timeout
+    private static final String CALL_ASYNC =
+            LOOKUP +
+                    "const __suiDone = arguments[arguments.length - 1];" +
+                    "if (!__suiReady) { __suiDone('" + MISSING + "'); return; }" +
+                    "const [__suiFn, ...__suiArgs] = Array.prototype.slice.call(arguments, 0, -1);" +
+                    "Promise.resolve().then(() => __suiLib[__suiFn](...__suiArgs))" +
+                    "  .then(__suiDone, e => __suiDone({__suiError: String(e)}));";
+
+    private static final LongAdder calls = new LongAdder();
+    private static final LongAdder lazyInstalls = new LongAdder();
+
+    private ScriptLibrary() {}
+
+    public static Object call(WebDriver driver, String function, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object[] arguments = withFunction(function, args);
+        calls.increment();
+        Object result = js.executeScript(CALL, arguments);
+        if (MISSING.equals(result)) {
+            lazyInstalls.increment();
+            result = js.executeScript(INSTALL + CALL, arguments);
+        }
+        return result;
+    }
+
+    public static Object callAsync(WebDriver driver, String function, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object[] arguments = withFunction(function, args);
+        calls.increment();
+        Object result = js.executeAsyncScript(CALL_ASYNC, arguments);
+        if (MISSING.equals(result)) {
+            lazyInstalls.increment();
+            result = js.executeAsyncScript(INSTALL + CALL_ASYNC, arguments);
+        }
+        if (result instanceof Map<?, ?> map && map.containsKey("__suiError")) {
+            throw new JavascriptException("__sui." + function + " failed: " + map.get("__suiError"));
+        }
+        return result;
+    }
+
+    // Installs into the current document without calling anything; a preload script only covers documents
+    // created after it was registered
+    public static void install(WebDriver driver) {
+        ((JavascriptExecutor) driver).executeScript(INSTALL);
+    }
+
+    public static long getCallCount() {
+        return calls.sum();
+    }
+
+    // Calls that found the bundle missing and had to resend it
+    public static long getLazyInstallCount() {
+        return lazyInstalls.sum();
+    }
+
+    private static Object[] withFunction(String function, Object[] args) {
+        Object[] arguments = new Object[args.length + 1];
+        arguments[0] = function;
+        System.arraycopy(args, 0, arguments, 1, args.length);
+        return arguments;
+    }
+}
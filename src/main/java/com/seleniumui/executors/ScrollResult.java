@@ -0,0 +1,5 @@
+package com.seleniumui.executors;
+
+// Outcome of JsExecutor.scrollToElement; occludedBy describes the element on top (tag#id.class) when covered
+public record ScrollResult(boolean scrolled, boolean inViewport, boolean covered, String occludedBy) {
+}
@@ -1,5 +1,7 @@
 package com.seleniumui.listeners;
 
+import com.seleniumui.logging.Log;
+import com.seleniumui.logging.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
@@ -9,51 +11,68 @@ import org.openqa.selenium.support.events.WebDriverListener;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+// Command tracing at DEBUG; describe() costs extra WebDriver commands, so it only runs when DEBUG is on
 public class DriverListener implements WebDriverListener {
 
+    private static final Logger LOG = Log.getLogger(DriverListener.class);
+
     @Override
     public void beforeClick(WebElement element) {
-        System.out.println("Clicking element: " + describe(element));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clicking element: {}", describe(element));
+        }
     }
 
     @Override
     public void afterClick(WebElement element) {
-        System.out.println("Clicked element successfully: " + describe(element));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clicked element successfully: {}", describe(element));
+        }
     }
 
     @Override
     public void beforeSendKeys(WebElement element, CharSequence... keysToSend) {
-        System.out.println("Sending keys to element " + describe(element) + ": " + String.join("", keysToSend));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Sending keys to element {}: {}", describe(element), String.join("", keysToSend));
+        }
     }
 
     @Override
     public void afterSendKeys(WebElement element, CharSequence... keysToSend) {
-        System.out.println("Sent keys to element " + describe(element) + ": " + String.join("", keysToSend));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Sent keys to element {}: {}", describe(element), String.join("", keysToSend));
+        }
     }
 
     @Override
     public void beforeClear(WebElement element) {
-        System.out.println("Clearing element: " + describe(element));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing element: {}", describe(element));
+        }
     }
 
     @Override
     public void afterClear(WebElement element) {
-        System.out.println("Cleared element successfully: " + describe(element));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared element successfully: {}", describe(element));
+        }
     }
 
     @Override
     public void beforeFindElement(WebDriver driver, By locator) {
-        System.out.println("Finding element by: " + locator);
+        LOG.debug("Finding element by: {}", locator);
     }
 
     @Override
     public void afterFindElement(WebDriver driver, By locator, WebElement result) {
-        System.out.println("Found element by " + locator + ": " + describe(result));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found element by {}: {}", locator, describe(result));
+        }
     }
 
     @Override
     public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
-        System.err.println("Error occurred in method " + method.getName() + ": " + e.getCause());
+        LOG.warn("Error occurred in method {}: {}", method.getName(), e.getCause());
     }
 
     private String describe(WebElement element) {
@@ -0,0 +1,156 @@
+package com.seleniumui.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Hands records to a single writer thread through a bounded queue, so logging threads never wait on the
+// output stream. Under backpressure it drops (DROP) or keeps one in N records below WARN (SAMPLE).
+public final class AsyncAppender implements LogAppender {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_SAMPLE_RATE = 10;
+
+    public enum OverflowPolicy {
+        DROP,
+        SAMPLE
+    }
+
+    private final LogAppender delegate;
+    private final BlockingQueue<LogRecord> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int highWaterMark;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean busy;
+    private volatile boolean closed;
+    private long reportedLosses;
+
+    public AsyncAppender(LogAppender delegate) {
+        this(delegate, DEFAULT_CAPACITY, OverflowPolicy.SAMPLE, DEFAULT_SAMPLE_RATE);
+    }
+
+    public AsyncAppender(LogAppender delegate, int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+        if (capacity <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("Capacity and sample rate must be greater than 0");
+        }
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.highWaterMark = Math.max(1, capacity * 3 / 4);
+        this.writer = new Thread(this::drain, "seleniumui-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void append(LogRecord record) {
+        if (closed) {
+            delegate.append(record);
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.SAMPLE
+                && record.level().compareTo(Level.WARN) < 0
+                && queue.size() >= highWaterMark
+                && sampleCounter.incrementAndGet() % sampleRate != 0) {
+            sampledOut.increment();
+            return;
+        }
+        if (!queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>(256);
+        while (!closed) {
+            try {
+                LogRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                busy = true;
+                batch.add(first);
+                queue.drainTo(batch, 255);
+                write(batch);
+                if (queue.isEmpty()) {
+                    reportLosses();
+                    delegate.flush();
+                }
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                busy = false;
+            }
+        }
+    }
+
+    private void write(List<LogRecord> batch) {
+        for (LogRecord record : batch) {
+            try {
+                delegate.append(record);
+            } catch (RuntimeException e) {
+                // An appender failure must not kill the writer thread
+                dropped.increment();
+            }
+        }
+        batch.clear();
+    }
+
+    private void reportLosses() {
+        long losses = dropped.sum() + sampledOut.sum();
+        if (losses > reportedLosses) {
+            delegate.append(new LogRecord(System.currentTimeMillis(), Level.WARN, AsyncAppender.class.getName(),
+                    writer.getName(), (losses - reportedLosses) + " log records dropped or sampled out under load",
+                    null, Collections.emptyMap()));
+            reportedLosses = losses;
+        }
+    }
+
+    // Waits (bounded) until everything queued so far has been written
+    @Override
+    public void flush() {
+        long deadline = System.currentTimeMillis() + 1000;
+        while ((!queue.isEmpty() || busy) && writer.isAlive() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        delegate.flush();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        closed = true;
+        writer.interrupt();
+        List<LogRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        write(remaining);
+        delegate.close();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+}
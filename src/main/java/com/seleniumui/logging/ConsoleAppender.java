@@ -0,0 +1,50 @@
+package com.seleniumui.logging;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+// Plain line output; WARN and above go to stderr
+public final class ConsoleAppender implements LogAppender {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public ConsoleAppender() {
+        this(System.out, System.err);
+    }
+
+    public ConsoleAppender(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    @Override
+    public void append(LogRecord record) {
+        StringBuilder line = new StringBuilder(96 + record.message().length())
+                .append(TIME.format(Instant.ofEpochMilli(record.timestamp())))
+                .append(' ').append(record.level())
+                .append(" [").append(record.thread()).append("] ")
+                .append(record.logger());
+        if (!record.tags().isEmpty()) {
+            line.append(' ').append(record.tags());
+        }
+        line.append(" - ").append(record.message());
+
+        PrintStream stream = record.level().compareTo(Level.WARN) >= 0 ? err : out;
+        stream.println(line);
+        if (record.error() != null) {
+            record.error().printStackTrace(stream);
+        }
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+        err.flush();
+    }
+}
@@ -0,0 +1,10 @@
+package com.seleniumui.logging;
+
+public enum Level {
+    TRACE,
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
@@ -0,0 +1,128 @@
+package com.seleniumui.logging;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Entry point of the library's logging: loggers, levels and the appender.
+// -Dseleniumui.log.level=DEBUG sets the root level, -Dseleniumui.log.async=false writes synchronously.
+public final class Log {
+
+    private static final Map<String, Node> NODES = new ConcurrentHashMap<>();
+    private static final Map<String, Level> LEVELS = new ConcurrentHashMap<>();
+    private static volatile Level rootLevel = parse(System.getProperty("seleniumui.log.level"), Level.INFO);
+    private static volatile LogAppender appender = Boolean.parseBoolean(System.getProperty("seleniumui.log.async", "true"))
+            ? new AsyncAppender(new ConsoleAppender())
+            : new ConsoleAppender();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> appender.flush(), "seleniumui-log-flush"));
+    }
+
+    private Log() {}
+
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    public static Logger getLogger(String name) {
+        Node node = NODES.computeIfAbsent(name, key -> {
+            Node created = new Node(key);
+            created.threshold = effectiveLevel(key).ordinal();
+            return created;
+        });
+        return new Logger(node, Collections.emptyMap());
+    }
+
+    // Logger whose records carry a short session id, so parallel sessions can be told apart
+    public static Logger getLogger(Class<?> type, WebDriver driver) {
+        return getLogger(type).withTag("session", sessionId(driver));
+    }
+
+    public static String sessionId(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver remote && remote.getSessionId() != null) {
+            String id = remote.getSessionId().toString();
+            return id.length() > 8 ? id.substring(0, 8) : id;
+        }
+        return Integer.toHexString(System.identityHashCode(driver));
+    }
+
+    public static void setLevel(Level level) {
+        rootLevel = Objects.requireNonNull(level, "Level cannot be null");
+        refresh();
+    }
+
+    // Level for a logger name prefix, e.g. "com.seleniumui.listeners"
+    public static void setLevel(String prefix, Level level) {
+        if (level == null) {
+            LEVELS.remove(prefix);
+        } else {
+            LEVELS.put(prefix, level);
+        }
+        refresh();
+    }
+
+    public static Level getLevel() {
+        return rootLevel;
+    }
+
+    public static void setAppender(LogAppender newAppender) {
+        LogAppender previous = appender;
+        appender = Objects.requireNonNull(newAppender, "Appender cannot be null");
+        previous.close();
+    }
+
+    public static LogAppender getAppender() {
+        return appender;
+    }
+
+    public static void flush() {
+        appender.flush();
+    }
+
+    static void dispatch(LogRecord record) {
+        appender.append(record);
+    }
+
+    private static void refresh() {
+        NODES.values().forEach(node -> node.threshold = effectiveLevel(node.name).ordinal());
+    }
+
+    // Longest matching prefix wins
+    private static Level effectiveLevel(String name) {
+        Level level = rootLevel;
+        int longest = -1;
+        for (Map.Entry<String, Level> entry : LEVELS.entrySet()) {
+            String prefix = entry.getKey();
+            if (name.startsWith(prefix) && prefix.length() > longest) {
+                level = entry.getValue();
+                longest = prefix.length();
+            }
+        }
+        return level;
+    }
+
+    private static Level parse(String value, Level fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    static final class Node {
+        final String name;
+        volatile int threshold;
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.seleniumui.logging;
+
+public interface LogAppender extends AutoCloseable {
+
+    void append(LogRecord record);
+
+    default void flush() {
+    }
+
+    @Override
+    default void close() {
+        flush();
+    }
+}
@@ -0,0 +1,59 @@
+package com.seleniumui.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// MDC-style tags for the current thread; copied into a record only when that record is actually logged
+public final class LogContext {
+
+    private static final ThreadLocal<Map<String, String>> TAGS = new ThreadLocal<>();
+
+    private LogContext() {}
+
+    public static void put(String key, String value) {
+        Map<String, String> tags = TAGS.get();
+        if (tags == null) {
+            tags = new LinkedHashMap<>();
+            TAGS.set(tags);
+        }
+        tags.put(key, value);
+    }
+
+    public static void remove(String key) {
+        Map<String, String> tags = TAGS.get();
+        if (tags != null) {
+            tags.remove(key);
+            if (tags.isEmpty()) {
+                TAGS.remove();
+            }
+        }
+    }
+
+    public static void clear() {
+        TAGS.remove();
+    }
+
+    // try (LogContext.Scope ignored = LogContext.with("test", name)) { ... }
+    public static Scope with(String key, String value) {
+        String previous = current().get(key);
+        put(key, value);
+        return () -> {
+            if (previous != null) {
+                put(key, previous);
+            } else {
+                remove(key);
+            }
+        };
+    }
+
+    static Map<String, String> current() {
+        Map<String, String> tags = TAGS.get();
+        return tags != null ? tags : Collections.emptyMap();
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
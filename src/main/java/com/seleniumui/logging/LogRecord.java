@@ -0,0 +1,8 @@
+package com.seleniumui.logging;
+
+import java.util.Map;
+
+// One formatted event; tags merge the logger's session tags with the calling thread's LogContext
+public record LogRecord(long timestamp, Level level, String logger, String thread, String message,
+                        Throwable error, Map<String, String> tags) {
+}
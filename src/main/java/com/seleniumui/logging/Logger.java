@@ -0,0 +1,176 @@
+package com.seleniumui.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Level check is one volatile read; messages are only formatted (and arguments only touched) when enabled.
+// Fixed-arity overloads avoid the varargs array on the common paths.
+public final class Logger {
+
+    private final Log.Node node;
+    private final Map<String, String> tags;
+
+    Logger(Log.Node node, Map<String, String> tags) {
+        this.node = node;
+        this.tags = tags;
+    }
+
+    // Same logger, with a tag attached to every record (e.g. the session id)
+    public Logger withTag(String key, String value) {
+        Map<String, String> merged = new LinkedHashMap<>(tags);
+        merged.put(key, value);
+        return new Logger(node, Collections.unmodifiableMap(merged));
+    }
+
+    public String getName() {
+        return node.name;
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= node.threshold;
+    }
+
+    public boolean isTraceEnabled() {
+        return Level.TRACE.ordinal() >= node.threshold;
+    }
+
+    public boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() >= node.threshold;
+    }
+
+    public boolean isInfoEnabled() {
+        return Level.INFO.ordinal() >= node.threshold;
+    }
+
+    public boolean isWarnEnabled() {
+        return Level.WARN.ordinal() >= node.threshold;
+    }
+
+    public void trace(String message) {
+        if (isTraceEnabled()) log(Level.TRACE, message, null);
+    }
+
+    public void trace(String pattern, Object arg) {
+        if (isTraceEnabled()) log(Level.TRACE, pattern, new Object[]{arg});
+    }
+
+    public void trace(String pattern, Object arg1, Object arg2) {
+        if (isTraceEnabled()) log(Level.TRACE, pattern, new Object[]{arg1, arg2});
+    }
+
+    public void trace(String pattern, Object... args) {
+        if (isTraceEnabled()) log(Level.TRACE, pattern, args);
+    }
+
+    public void debug(String message) {
+        if (isDebugEnabled()) log(Level.DEBUG, message, null);
+    }
+
+    public void debug(String pattern, Object arg) {
+        if (isDebugEnabled()) log(Level.DEBUG, pattern, new Object[]{arg});
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2) {
+        if (isDebugEnabled()) log(Level.DEBUG, pattern, new Object[]{arg1, arg2});
+    }
+
+    public void debug(String pattern, Object... args) {
+        if (isDebugEnabled()) log(Level.DEBUG, pattern, args);
+    }
+
+    public void info(String message) {
+        if (isInfoEnabled()) log(Level.INFO, message, null);
+    }
+
+    public void info(String pattern, Object arg) {
+        if (isInfoEnabled()) log(Level.INFO, pattern, new Object[]{arg});
+    }
+
+    public void info(String pattern, Object arg1, Object arg2) {
+        if (isInfoEnabled()) log(Level.INFO, pattern, new Object[]{arg1, arg2});
+    }
+
+    public void info(String pattern, Object... args) {
+        if (isInfoEnabled()) log(Level.INFO, pattern, args);
+    }
+
+    public void warn(String message) {
+        if (isWarnEnabled()) log(Level.WARN, message, null);
+    }
+
+    public void warn(String pattern, Object arg) {
+        if (isWarnEnabled()) log(Level.WARN, pattern, new Object[]{arg});
+    }
+
+    public void warn(String pattern, Object arg1, Object arg2) {
+        if (isWarnEnabled()) log(Level.WARN, pattern, new Object[]{arg1, arg2});
+    }
+
+    public void warn(String pattern, Object... args) {
+        if (isWarnEnabled()) log(Level.WARN, pattern, args);
+    }
+
+    public void error(String message) {
+        if (isEnabled(Level.ERROR)) log(Level.ERROR, message, null);
+    }
+
+    public void error(String pattern, Object arg) {
+        if (isEnabled(Level.ERROR)) log(Level.ERROR, pattern, new Object[]{arg});
+    }
+
+    public void error(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(Level.ERROR)) log(Level.ERROR, pattern, new Object[]{arg1, arg2});
+    }
+
+    public void error(String pattern, Object... args) {
+        if (isEnabled(Level.ERROR)) log(Level.ERROR, pattern, args);
+    }
+
+    private void log(Level level, String pattern, Object[] args) {
+        // A trailing Throwable without a placeholder of its own is the record's error (SLF4J convention)
+        Throwable error = null;
+        int argCount = args == null ? 0 : args.length;
+        if (argCount > 0 && args[argCount - 1] instanceof Throwable throwable && placeholders(pattern) < argCount) {
+            error = throwable;
+            argCount--;
+        }
+
+        Map<String, String> threadTags = LogContext.current();
+        Map<String, String> recordTags;
+        if (threadTags.isEmpty()) {
+            recordTags = tags;
+        } else {
+            recordTags = new LinkedHashMap<>(tags);
+            recordTags.putAll(threadTags);
+        }
+
+        Log.dispatch(new LogRecord(System.currentTimeMillis(), level, node.name, Thread.currentThread().getName(),
+                format(pattern, args, argCount), error, recordTags));
+    }
+
+    private static int placeholders(String pattern) {
+        int count = 0;
+        for (int i = pattern.indexOf("{}"); i >= 0; i = pattern.indexOf("{}", i + 2)) {
+            count++;
+        }
+        return count;
+    }
+
+    static String format(String pattern, Object[] args, int argCount) {
+        if (argCount == 0 || pattern == null) {
+            return String.valueOf(pattern);
+        }
+        StringBuilder message = new StringBuilder(pattern.length() + 16 * argCount);
+        int from = 0;
+        for (int i = 0; i < argCount; i++) {
+            int at = pattern.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            message.append(pattern, from, at).append(args[i]);
+            from = at + 2;
+        }
+        return message.append(pattern, from, pattern.length()).toString();
+    }
+}
@@ -1,5 +1,8 @@
 package com.seleniumui.components;
 
+import com.seleniumui.core.ComponentSnapshot;
+import com.seleniumui.core.actions.AttributeRead;
+import com.seleniumui.executors.RetryGuard;
 import org.openqa.selenium.By;
 import org.testng.Assert;
 import org.testng.annotations.*;
@@ -24,4 +27,50 @@ public class ButtonTest extends BaseTest {
         seleniumUI.button(By.id("enableAfter")).click();
         seleniumUI.button(By.id("visibleAfter")).click();
     }
+
+    @Test
+    public void testSnapshotReadsStateInOneCall() {
+        driver.get("https://demoqa.com/dynamic-properties");
+        seleniumUI.button(By.id("visibleAfter")).waitForClickable();
+
+        ComponentSnapshot snapshot = seleniumUI.button(By.id("visibleAfter")).snapshot(ComponentSnapshot.Spec.builder()
+                .with(ComponentSnapshot.Property.values())
+                .attributes("id", "data-missing")
+                .css("display")
+                .build());
+
+        Assert.assertTrue(snapshot.isPresent());
+        Assert.assertTrue(snapshot.isDisplayed());
+        Assert.assertTrue(snapshot.isEnabled());
+        Assert.assertEquals(snapshot.getText(), "Visible After 5 Seconds");
+        Assert.assertEquals(snapshot.getAttribute("id"), "visibleAfter");
+        Assert.assertFalse(snapshot.hasAttribute("data-missing"));
+        Assert.assertTrue(snapshot.hasClass("btn"));
+        Assert.assertTrue(snapshot.getRect().getWidth() > 0);
+        Assert.assertNotEquals(snapshot.getCssValue("display"), "none");
+
+        ComponentSnapshot absent = seleniumUI.button(By.id("noSuchButton")).snapshot();
+        Assert.assertFalse(absent.isPresent());
+        Assert.assertFalse(absent.isDisplayed());
+    }
+
+    @Test
+    public void testNegativeChecksAnswerWithoutRetrying() {
+        driver.get("https://demoqa.com/buttons");
+        Button button = seleniumUI.button(By.id("doubleClickBtn"));
+
+        RetryGuard.State before = seleniumUI.getRetryGuard().getState();
+        Assert.assertFalse(button.hasAttribute("disabled"));
+        Assert.assertEquals(button.readAttribute("disabled").status(), AttributeRead.Status.ABSENT);
+        Assert.assertFalse(seleniumUI.button(By.id("noSuchButton")).isPresent());
+        Assert.assertEquals(seleniumUI.button(By.id("noSuchButton")).readAttribute("class").status(),
+                AttributeRead.Status.ELEMENT_MISSING);
+        RetryGuard.State after = seleniumUI.getRetryGuard().getState();
+        Assert.assertEquals(after.retriesGranted(), before.retriesGranted(), "negative checks should not retry");
+        Assert.assertEquals(after.retriesDenied(), before.retriesDenied(), "negative checks should not retry");
+
+        Assert.assertTrue(button.isPresent());
+        Assert.assertTrue(button.hasClass("btn"));
+        Assert.assertEquals(button.readAttribute("id").value(), "doubleClickBtn");
+    }
 }
@@ -0,0 +1,39 @@
+package com.seleniumui.components;
+
+import com.seleniumui.core.ComponentList;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class ComponentListTest extends BaseTest {
+
+    @Test
+    public void bulkReadsAndFilter() {
+        driver.get("https://demoqa.com/buttons");
+        ComponentList<Button> buttons = seleniumUI.buttons(By.cssSelector("button.btn-primary"));
+
+        List<String> texts = buttons.texts();
+        Assert.assertEquals(buttons.count(), 3, "Buttons found: " + texts);
+        Assert.assertEquals(texts, List.of("Double Click Me", "Right Click Me", "Click Me"));
+        Assert.assertEquals(buttons.attributes("type"), List.of("button", "button", "button"));
+
+        ComponentList<Button> clickMe = buttons.filter(snapshot -> snapshot.getText().equals("Click Me"));
+        Assert.assertEquals(clickMe.count(), 1);
+        clickMe.first().click();
+
+        Assert.assertTrue(seleniumUI.label(By.id("dynamicClickMessage")).isDisplayed(),
+                "dynamicClickMessage should be visible after click");
+    }
+
+    @Test
+    public void itemsReuseResolvedHandles() {
+        driver.get("https://demoqa.com/text-box");
+        ComponentList<Label> labels = seleniumUI.labels(By.cssSelector("#userForm label"));
+
+        Assert.assertTrue(labels.count() >= 4, "Labels found: " + labels.texts());
+        Assert.assertEquals(labels.get(0).getText(), labels.texts().get(0));
+        Assert.assertTrue(seleniumUI.labels(By.cssSelector(".no-such-label")).isEmpty());
+    }
+}
@@ -32,4 +32,30 @@ public class DropdownTest extends BaseTest{
         dropdownMulti2.addSelectionByText("Black");
         Assert.assertEquals(dropdownMulti2.getSelectedTexts().get(1), "Black", "Selected text should match the expected value.");
     }
+
+    @Test
+    public void indexedOptionsOfCustomDropdown() {
+        driver.get("https://demoqa.com/select-menu");
+        Dropdown dropdown = seleniumUI.dropdown(By.id("selectOne"));
+
+        dropdown.selectByText("Prof.");
+        Assert.assertEquals(dropdown.getSelectedText(), "Prof.", "Selected text should match the expected value.");
+
+        seleniumUI.button(By.id("selectOne")).click();
+        Assert.assertTrue(dropdown.getOptions().stream().anyMatch(option -> option.visible() && option.text().equals("Dr.")),
+                "Open menu should list Dr.");
+    }
+
+    @Test
+    public void learnedStrategyIsTriedFirst() {
+        driver.get("https://demoqa.com/select-menu");
+        DropdownStrategyCache cache = new DropdownStrategyCache();
+        Dropdown dropdown = seleniumUI.dropdown(By.id("selectOne")).withOptionIndex(false).withStrategyCache(cache);
+
+        dropdown.selectByText("Mr.");
+        dropdown.selectByText("Prof.");
+        Assert.assertEquals(dropdown.getSelectedText(), "Prof.", "Selected text should match the expected value.");
+        Assert.assertTrue(cache.size() > 0, "Matching strategy should be learned.");
+        Assert.assertTrue(cache.getHits() > 0, "Second selection should start with the learned strategy.");
+    }
 }
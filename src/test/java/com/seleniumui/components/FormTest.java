@@ -0,0 +1,44 @@
+package com.seleniumui.components;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class FormTest extends BaseTest {
+
+    @Test
+    public void fillTextBoxForm() {
+        driver.get("https://demoqa.com/text-box");
+        Map<By, String> values = new LinkedHashMap<>();
+        values.put(By.id("userName"), "John Doe");
+        values.put(By.id("userEmail"), "johndoe@example.com");
+        values.put(By.id("currentAddress"), "123 Main Street");
+        values.put(By.id("permanentAddress"), "456 Elm Street");
+
+        Form.FillResult result = seleniumUI.form(By.id("userForm")).fill(values);
+
+        Assert.assertTrue(result.isSuccess(), "All fields should be filled, failed: " + result.failedFields());
+        Assert.assertEquals(result.scriptedFields(), 4, "All fields should be filled by the script.");
+        Assert.assertEquals(seleniumUI.input(By.id("userName")).getValue(), "John Doe", "Username input value should match.");
+        Assert.assertEquals(seleniumUI.input(By.id("permanentAddress")).getValue(), "456 Elm Street", "Permanent address input value should match.");
+    }
+
+    @Test
+    public void fillWithKeystrokeField() {
+        driver.get("https://demoqa.com/text-box");
+        Map<By, String> values = new LinkedHashMap<>();
+        values.put(By.id("userName"), "Jane Doe");
+        values.put(By.id("userEmail"), "janedoe@example.com");
+
+        Form.FillResult result = seleniumUI.form()
+                .withKeystrokes(By.id("userEmail"))
+                .fill(values);
+
+        Assert.assertTrue(result.isSuccess(), "All fields should be filled, failed: " + result.failedFields());
+        Assert.assertEquals(result.keystrokeFields(), 1, "Email should be typed with keystrokes.");
+        Assert.assertEquals(seleniumUI.input(By.id("userEmail")).getValue(), "janedoe@example.com", "Email input value should match.");
+    }
+}
@@ -26,4 +26,17 @@ public class InputTest extends BaseTest {
         permanentAddress.clearAndType("456 Elm Street");
         Assert.assertEquals(permanentAddress.getValue(), "456 Elm Street", "Permanent address input value should match the typed text.");
     }
+
+    @Test
+    public void largeTextUsesFastPath() {
+        driver.get("https://demoqa.com/text-box");
+        Input currentAddress = seleniumUI.input(By.id("currentAddress"))
+                .withTypingStrategy(Input.TypingStrategy.AUTO);
+        String payload = "{\"line\": \"123 Main Street\"}\n".repeat(500);
+
+        currentAddress.clearAndType(payload);
+
+        Assert.assertEquals(currentAddress.getLastTypingReport().strategy(), Input.TypingStrategy.JS_VALUE, "Large text should be assigned, not typed.");
+        Assert.assertEquals(currentAddress.getValue(), payload, "Textarea value should match the assigned text.");
+    }
 }
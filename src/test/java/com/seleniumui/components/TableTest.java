@@ -0,0 +1,43 @@
+package com.seleniumui.components;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TableTest extends BaseTest {
+
+    // demoqa renders the grid with react-table divs; the plain table selectors cover a <table> rewrite
+    private Table webTable() {
+        return seleniumUI.table(By.cssSelector(".rt-table, .web-tables-wrapper table"))
+                .withSelectors(".rt-tbody .rt-tr-group, tbody tr", ".rt-td, td", ".rt-th, thead th");
+    }
+
+    @Test
+    public void readsRowsInChunks() {
+        driver.get("https://demoqa.com/webtables");
+        Table table = webTable().withChunkSize(2);
+
+        List<Table.Row> rows = table.readAll();
+
+        Assert.assertEquals(rows.size(), 3, "Rows read: " + rows);
+        Assert.assertEquals(rows.get(0).get("First Name"), "Cierra");
+        Assert.assertEquals(rows.get(2).get("Email"), "kierra@example.com");
+        Assert.assertEquals(table.getLastStats().rows(), 3);
+        Assert.assertEquals(table.getLastStats().chunks(), 2);
+    }
+
+    @Test
+    public void projectsColumns() {
+        driver.get("https://demoqa.com/webtables");
+        Table table = webTable().columns("Email", "First Name");
+
+        try (Stream<Table.Row> rows = table.rows()) {
+            Table.Row first = rows.findFirst().orElseThrow();
+            Assert.assertEquals(first.cells(), List.of("cierra@example.com", "Cierra"));
+            Assert.assertEquals(first.get("first name"), "Cierra");
+        }
+    }
+}